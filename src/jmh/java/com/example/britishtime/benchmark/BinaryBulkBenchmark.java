@@ -0,0 +1,52 @@
+package com.example.britishtime.benchmark;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.BinaryEncoding;
+import com.example.britishtime.service.BinaryTimeCodec;
+import com.example.britishtime.service.TimeParser;
+import com.example.britishtime.service.TimeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BinaryTimeCodec#convert} over packed minutes of day, with the same times as
+ * {@link CsvUploadBenchmark}. One op is one request body; results go to a discarding stream.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryBulkBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int times;
+
+    @Param({"TEXT", "IDS"})
+    public BinaryEncoding encoding;
+
+    private byte[] packed;
+    private BinaryTimeCodec codec;
+
+    @Setup
+    public void setUp() {
+        packed = new byte[times * 2];
+        for (int i = 0; i < times; i++) {
+            int minuteOfDay = (i * 7) % TimeParser.MINUTES_PER_DAY;
+            packed[2 * i] = (byte) (minuteOfDay >>> 8);
+            packed[2 * i + 1] = (byte) minuteOfDay;
+        }
+        codec = new BinaryTimeCodec(new TimeService(new TimeFormatterFactory()));
+    }
+
+    @Benchmark
+    public long convert() throws Exception {
+        return codec.convert(new ByteArrayInputStream(packed), OutputStream.nullOutputStream(),
+                SpokenLocale.BRITISH, encoding);
+    }
+}
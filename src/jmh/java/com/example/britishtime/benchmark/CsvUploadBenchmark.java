@@ -0,0 +1,101 @@
+package com.example.britishtime.benchmark;
+
+import com.example.britishtime.controller.TimeController;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.UploadErrorMode;
+import com.example.britishtime.service.BatchConversionEngine;
+import com.example.britishtime.service.BinaryTimeCodec;
+import com.example.britishtime.service.ReverseTimeService;
+import com.example.britishtime.service.TimeParser;
+import com.example.britishtime.service.TimeService;
+import com.example.britishtime.web.SpokenTimeResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV upload parsing and conversion at several file sizes, through the engine alone (with a converter of decoded
+ * cells, and with the byte-level converter the upload endpoints use) and through {@link TimeController#uploadCsv}. One op is one uploaded file. The
+ * {@code serialised} variants also write the JSON body, as a list of responses and dictionary-encoded.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvUploadBenchmark {
+
+    /** Number of times in the file, five per line. */
+    @Param({"1000", "100000", "1000000"})
+    public int times;
+
+    /** Batch engine worker threads; 0 means one per processor. */
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private byte[] csv;
+    private MockMultipartFile file;
+    private TimeService service;
+    private BatchConversionEngine engine;
+    private TimeController controller;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder builder = new StringBuilder(times * 6);
+        for (int i = 0; i < times; i++) {
+            builder.append(TimeParser.canonical((i * 7) % TimeParser.MINUTES_PER_DAY))
+                    .append(i % 5 == 4 ? '\n' : ',');
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+        file = new MockMultipartFile("file", "times.csv", "text/csv", csv);
+        service = new TimeService(new TimeFormatterFactory());
+        engine = new BatchConversionEngine(262144, parallelism);
+        objectMapper = new ObjectMapper();
+        controller = new TimeController(service, new ReverseTimeService(service), engine, new BinaryTimeCodec(service), null,
+                new SpokenTimeResponseCache(service, objectMapper), null,
+                SpokenTimeMetrics.noop(), objectMapper, UploadErrorMode.ABORT, 10000, Duration.ofDays(365));
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public int engine(Blackhole blackhole) throws Exception {
+        return engine.convert(new ByteArrayInputStream(csv), service::toSpokenTime, blackhole::consume);
+    }
+
+    @Benchmark
+    public int engineBytes(Blackhole blackhole) throws Exception {
+        return engine.convertBytes(new ByteArrayInputStream(csv),
+                (bytes, offset, length) -> service.toSpokenTime(bytes, offset, length, SpokenLocale.BRITISH),
+                blackhole::consume);
+    }
+
+    @Benchmark
+    public Object controller() {
+        return controller.uploadCsv(file, null);
+    }
+
+    @Benchmark
+    public void controllerSerialised() throws Exception {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), controller.uploadCsv(file, null));
+    }
+
+    @Benchmark
+    public void dictionarySerialised() throws Exception {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), controller.uploadCsvDictionary(file, null));
+    }
+}
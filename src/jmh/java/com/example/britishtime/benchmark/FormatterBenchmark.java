@@ -0,0 +1,43 @@
+package com.example.britishtime.benchmark;
+
+import com.example.britishtime.formatter.BritishTimeFormatter;
+import com.example.britishtime.formatter.PrecomputedTimeFormatter;
+import com.example.britishtime.formatter.TimeFormatterStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeFormatterStrategy#format} over all 1440 valid inputs; one op is one formatted time.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatterBenchmark {
+
+    @Param({"rules", "precomputed"})
+    public String formatter;
+
+    private TimeFormatterStrategy strategy;
+
+    @Setup
+    public void setUp() {
+        strategy = formatter.equals("precomputed")
+                ? new PrecomputedTimeFormatter(new BritishTimeFormatter())
+                : new BritishTimeFormatter();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(24 * 60)
+    public void formatWholeDay(Blackhole blackhole) {
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute++) {
+                blackhole.consume(strategy.format(hour, minute));
+            }
+        }
+    }
+}
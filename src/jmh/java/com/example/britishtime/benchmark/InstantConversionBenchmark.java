@@ -0,0 +1,63 @@
+package com.example.britishtime.benchmark;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.TimeResult;
+import com.example.britishtime.service.TimeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk instant conversion in a DST zone: {@link TimeService#toSpokenTimesAt} with its cached offset windows
+ * against resolving every instant through {@code java.time} and converting the local time. The instants are
+ * epoch milliseconds a few seconds apart across a year, in order, as an event stream delivers them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstantConversionBenchmark {
+
+    private static final String ZONE = "Europe/London";
+
+    @Param({"100000"})
+    public int instants;
+
+    private TimeService service;
+    private List<String> epochMillis;
+
+    @Setup
+    public void setUp() {
+        service = new TimeService(new TimeFormatterFactory());
+        epochMillis = new ArrayList<>(instants);
+        long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        long step = 366L * 86_400_000 / instants;
+        for (int i = 0; i < instants; i++) {
+            epochMillis.add(Long.toString(start + i * step));
+        }
+    }
+
+    @Benchmark
+    public List<TimeResult> cachedOffsets() {
+        return service.toSpokenTimesAt(epochMillis, ZONE, SpokenLocale.BRITISH);
+    }
+
+    @Benchmark
+    public List<TimeResult> zoneRulesPerInstant() {
+        ZoneId zone = ZoneId.of(ZONE);
+        List<TimeResult> results = new ArrayList<>(epochMillis.size());
+        for (String epochMilli : epochMillis) {
+            LocalTime local = Instant.ofEpochMilli(Long.parseLong(epochMilli)).atZone(zone).toLocalTime();
+            results.add(service.tryToSpokenTime(local.getHour(), local.getMinute(), SpokenLocale.BRITISH));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.britishtime.benchmark;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.Meridiem;
+import com.example.britishtime.service.ReverseTimeService;
+import com.example.britishtime.service.TimeParser;
+import com.example.britishtime.service.TimeService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReverseTimeService#minuteOfDay} over every British phrase, as a transcript would deliver it
+ * (mixed case, punctuation, filler and an am/pm suffix), and for unrecognised phrases.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReverseTimeServiceBenchmark {
+
+    private static final String[] UNRECOGNISED = {
+            "", "lunchtime", "quarter to thirteen", "half past", "seven thirty one two", "the day after tomorrow"
+    };
+
+    private ReverseTimeService service;
+    private String[] transcripts;
+
+    @Setup
+    public void setUp() {
+        TimeService timeService = new TimeService(new TimeFormatterFactory());
+        service = new ReverseTimeService(timeService);
+        transcripts = new String[TimeParser.MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < transcripts.length; minuteOfDay++) {
+            String spoken = timeService.response(minuteOfDay, SpokenLocale.BRITISH).spoken();
+            transcripts[minuteOfDay] = "It's " + spoken.toUpperCase() + (minuteOfDay < 720 ? " a.m." : " p.m.");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TimeParser.MINUTES_PER_DAY)
+    public void transcripts(Blackhole blackhole) {
+        for (String transcript : transcripts) {
+            blackhole.consume(service.minuteOfDay(transcript, null, SpokenLocale.BRITISH));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void unrecognised(Blackhole blackhole) {
+        for (String phrase : UNRECOGNISED) {
+            blackhole.consume(service.minuteOfDay(phrase, Meridiem.PM, SpokenLocale.BRITISH));
+        }
+    }
+}
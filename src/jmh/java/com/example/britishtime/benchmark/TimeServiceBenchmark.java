@@ -0,0 +1,59 @@
+package com.example.britishtime.benchmark;
+
+import com.example.britishtime.exception.InvalidTimeException;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.service.TimeParser;
+import com.example.britishtime.service.TimeService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeService#toSpokenTime(String)} for valid input and for the rejection path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeServiceBenchmark {
+
+    private static final String[] INVALID = {
+            "", "badinput", "12:30:00", "ab:cd", "25:00", "10:99", "-1:00", "7.30"
+    };
+
+    private TimeService service;
+    private String[] valid;
+
+    @Setup
+    public void setUp() {
+        service = new TimeService(new TimeFormatterFactory());
+        valid = new String[TimeParser.MINUTES_PER_DAY];
+        for (int minuteOfDay = 0; minuteOfDay < valid.length; minuteOfDay++) {
+            // fresh, non-interned strings, as they would arrive from a request
+            valid[minuteOfDay] = new String(TimeParser.canonical(minuteOfDay).toCharArray());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TimeParser.MINUTES_PER_DAY)
+    public void validInput(Blackhole blackhole) {
+        for (String time : valid) {
+            blackhole.consume(service.toSpokenTime(time));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void invalidInput(Blackhole blackhole) {
+        for (String time : INVALID) {
+            try {
+                blackhole.consume(service.toSpokenTime(time));
+            } catch (InvalidTimeException ex) {
+                blackhole.consume(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.example.britishtime.load;
+
+import com.example.britishtime.BritishSpokenTimeApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end latency regression gate: boots the application in-process on a random port, drives a weighted mix
+ * of query-parameter GETs, path-variable GETs, multipart CSV uploads and invalid input through the real servlet
+ * stack, and compares p99 and p999 per scenario with a baseline recorded on the same machine.
+ *
+ * <p>Load follows an open model: requests are issued at a constant rate whether or not earlier ones have been
+ * answered, and each latency is measured from the request's intended start on that schedule, so a stall shows up
+ * in the latencies of every request it delays. A request that times out or fails is recorded with the time it
+ * took to fail. The process exits with status 1, failing the Maven build, when a scenario fails a request or
+ * answers with an unexpected status, when a percentile is more than {@code tolerance.latency} times its baseline,
+ * or when fewer than {@code tolerance.throughput} of the requests offered per second are answered within the run.
+ * Latencies under {@code tolerance.latency-floor-ms} never fail the gate; below that, run-to-run noise dominates.
+ *
+ * <p>Only the tolerances are kept in the repository ({@code src/load/latency-tolerances.properties}). Baselines
+ * are machine-specific: record one with {@code -Dload.update-baseline=true} on the host that runs the gate,
+ * from the revision to compare against, then gate the change on that host. Tunables are system properties:
+ * <ul>
+ *   <li>{@code load.rate} — requests per second across all scenarios (default 200)</li>
+ *   <li>{@code load.seconds} — measured duration (default 20)</li>
+ *   <li>{@code load.warmup-seconds} — unmeasured warm-up with the same mix and rate (default 10)</li>
+ *   <li>{@code load.tolerances} — tolerance file (default {@code src/load/latency-tolerances.properties})</li>
+ *   <li>{@code load.baseline} — baseline file (default {@code target/latency-baseline.properties})</li>
+ *   <li>{@code load.update-baseline} — write this run's results to the baseline instead of gating</li>
+ * </ul>
+ */
+public final class LatencyRegressionGate {
+
+    private static final String API = "/api/v1/spoken-time";
+    private static final String BOUNDARY = "spoken-time-gate";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final double DEFAULT_LATENCY_TOLERANCE = 1.5;
+    private static final double DEFAULT_THROUGHPUT_TOLERANCE = 0.7;
+    private static final double DEFAULT_LATENCY_FLOOR_MS = 2.0;
+
+    /** Traffic mix; weights are relative shares of all requests. */
+    enum Scenario {
+        GET("get", 60, 200),
+        PATH("path", 20, 200),
+        UPLOAD("upload", 10, 200),
+        INVALID("invalid", 10, 400);
+
+        final String key;
+        final int weight;
+        final int expectedStatus;
+
+        Scenario(String key, int weight, int expectedStatus) {
+            this.key = key;
+            this.weight = weight;
+            this.expectedStatus = expectedStatus;
+        }
+
+        double share() {
+            return (double) weight / Arrays.stream(values()).mapToInt(s -> s.weight).sum();
+        }
+    }
+
+    private LatencyRegressionGate() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rate = Integer.getInteger("load.rate", 200);
+        int seconds = Integer.getInteger("load.seconds", 20);
+        int warmUpSeconds = Integer.getInteger("load.warmup-seconds", 10);
+        Path tolerancesFile = Path.of(System.getProperty("load.tolerances", "src/load/latency-tolerances.properties"));
+        Path baselineFile = Path.of(System.getProperty("load.baseline", "target/latency-baseline.properties"));
+        boolean updateBaseline = Boolean.getBoolean("load.update-baseline");
+
+        System.out.printf("%d req/s, %ds warm-up, %ds measured; mix %s%n%n", rate, warmUpSeconds, seconds, mix());
+        Map<Scenario, Stats> results = run(rate, warmUpSeconds, seconds);
+        System.out.printf("%-8s %9s %9s %9s %9s %9s %7s%n",
+                "scenario", "requests", "ok/s", "p50 ms", "p99 ms", "p999 ms", "errors");
+        for (Stats stats : results.values()) {
+            System.out.printf(Locale.ROOT, "%-8s %9d %9.0f %9.2f %9.2f %9.2f %7d%n",
+                    stats.scenario.key, stats.latencies.length, stats.okPerSecond(seconds),
+                    stats.percentileMillis(0.50), stats.percentileMillis(0.99), stats.percentileMillis(0.999),
+                    stats.errors);
+        }
+        System.out.println();
+
+        if (updateBaseline) {
+            store(baselineFile, results, rate, seconds);
+            System.out.println("Baseline written to " + baselineFile);
+            return;
+        }
+        Properties baseline = load(baselineFile);
+        if (baseline.isEmpty()) {
+            System.out.println("No baseline at " + baselineFile + "; record one with -Dload.update-baseline=true");
+            return;
+        }
+        List<String> failures = check(load(tolerancesFile), baseline, results, rate, seconds);
+        if (failures.isEmpty()) {
+            System.out.println("Latency gate passed against " + baselineFile);
+            return;
+        }
+        failures.forEach(failure -> System.out.println("REGRESSION " + failure));
+        System.exit(1);
+    }
+
+    private static Map<Scenario, Stats> run(int rate, int warmUpSeconds, int seconds) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(BritishSpokenTimeApplication.class)
+                        .web(WebApplicationType.SERVLET)
+                        .run(
+                                "--server.port=0",
+                                "--spring.main.banner-mode=off",
+                                "--logging.level.root=WARN")) {
+            String base = "http://localhost:" + context.getWebServer().getPort() + API;
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(REQUEST_TIMEOUT)
+                    .build();
+            drive(client, base, rate, warmUpSeconds);
+            return drive(client, base, rate, seconds).stats();
+        }
+    }
+
+    /**
+     * Issues {@code rate × seconds} requests on a fixed schedule and waits for the last of them. A request that
+     * falls behind its slot (a pause of this thread or of the JVM) is sent at once rather than skipped, and its
+     * latency still counts from the slot.
+     */
+    private static Recorder drive(HttpClient http, String base, int rate, int seconds) {
+        Recorder recorder = new Recorder();
+        Requests requests = new Requests(base);
+        int totalWeight = Arrays.stream(Scenario.values()).mapToInt(s -> s.weight).sum();
+        long total = (long) rate * seconds;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>((int) total);
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * 1_000_000_000L / rate;
+            for (long wait; (wait = intendedStart - System.nanoTime()) > 0; ) {
+                LockSupport.parkNanos(wait);
+            }
+            Scenario scenario = pick(ThreadLocalRandom.current().nextInt(totalWeight));
+            inFlight.add(http.sendAsync(requests.next(scenario), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        long latency = System.nanoTime() - intendedStart;
+                        recorder.record(scenario, latency, response != null ? response.statusCode() : -1);
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        return recorder;
+    }
+
+    private static Scenario pick(int ticket) {
+        for (Scenario scenario : Scenario.values()) {
+            ticket -= scenario.weight;
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static List<String> check(Properties tolerances, Properties baseline, Map<Scenario, Stats> results,
+                                      int rate, int seconds) {
+        double latencyTolerance = tolerance(tolerances, "tolerance.latency", DEFAULT_LATENCY_TOLERANCE);
+        double throughputTolerance = tolerance(tolerances, "tolerance.throughput", DEFAULT_THROUGHPUT_TOLERANCE);
+        double floorMillis = tolerance(tolerances, "tolerance.latency-floor-ms", DEFAULT_LATENCY_FLOOR_MS);
+        List<String> failures = new ArrayList<>();
+        String baselineRate = baseline.getProperty("load.rate");
+        if (baselineRate != null && Integer.parseInt(baselineRate) != rate) {
+            failures.add(String.format(Locale.ROOT, "baseline was recorded at %s req/s, this run offered %d req/s",
+                    baselineRate, rate));
+            return failures;
+        }
+        for (Stats stats : results.values()) {
+            String key = stats.scenario.key;
+            if (stats.errors > 0) {
+                failures.add(String.format(Locale.ROOT, "%s: %d requests failed or returned a status other than %d",
+                        key, stats.errors, stats.scenario.expectedStatus));
+            }
+            if (stats.latencies.length == 0) {
+                failures.add(key + ": no responses");
+                continue;
+            }
+            double offered = rate * stats.scenario.share();
+            if (stats.okPerSecond(seconds) < offered * throughputTolerance) {
+                failures.add(String.format(Locale.ROOT, "%s: %.0f req/s answered of %.0f offered (tolerance x%.2f)",
+                        key, stats.okPerSecond(seconds), offered, throughputTolerance));
+            }
+            for (String percentile : new String[] {"p99", "p999"}) {
+                String expected = baseline.getProperty(key + "." + percentile + "-ms");
+                if (expected == null) {
+                    continue;
+                }
+                double actual = stats.percentileMillis(percentile.equals("p99") ? 0.99 : 0.999);
+                double limit = Math.max(Double.parseDouble(expected) * latencyTolerance, floorMillis);
+                if (actual > limit) {
+                    failures.add(String.format(Locale.ROOT, "%s: %s %.2f ms, baseline %s ms (limit %.2f ms)",
+                            key, percentile, actual, expected, limit));
+                }
+            }
+        }
+        return failures;
+    }
+
+    private static double tolerance(Properties tolerances, String key, double defaultValue) {
+        String override = System.getProperty("load." + key);
+        String value = override != null ? override : tolerances.getProperty(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    private static Properties load(Path file) throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            }
+        }
+        return properties;
+    }
+
+    private static void store(Path file, Map<Scenario, Stats> results, int rate, int seconds) throws IOException {
+        Map<String, String> values = new TreeMap<>();
+        values.put("load.rate", Integer.toString(rate));
+        for (Stats stats : results.values()) {
+            String key = stats.scenario.key;
+            values.put(key + ".p99-ms", String.format(Locale.ROOT, "%.2f", stats.percentileMillis(0.99)));
+            values.put(key + ".p999-ms", String.format(Locale.ROOT, "%.2f", stats.percentileMillis(0.999)));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("# LatencyRegressionGate baseline, recorded with -Dload.update-baseline=true\n");
+            writer.write(String.format("# load.seconds=%d; valid only on the machine that recorded it%n", seconds));
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    private static String mix() {
+        StringBuilder mix = new StringBuilder();
+        for (Scenario scenario : Scenario.values()) {
+            mix.append(mix.isEmpty() ? "" : ", ").append(scenario.key).append(' ').append(scenario.weight).append('%');
+        }
+        return mix.toString();
+    }
+
+    /** Builds the request for each scenario, walking through the minutes of the day. */
+    private static final class Requests {
+
+        private final String base;
+        private final byte[] upload = multipartBody();
+        private int minute = ThreadLocalRandom.current().nextInt(1440);
+
+        Requests(String base) {
+            this.base = base;
+        }
+
+        HttpRequest next(Scenario scenario) {
+            int hour = minute / 60;
+            int minuteOfHour = minute % 60;
+            HttpRequest request = switch (scenario) {
+                case GET -> get(String.format("?time=%02d:%02d", hour, minuteOfHour));
+                case PATH -> get(String.format("/%d/%d", hour, minuteOfHour));
+                case INVALID -> get(minute % 2 == 0 ? "?time=25:99" : "/24/" + (60 + minuteOfHour));
+                case UPLOAD -> HttpRequest.newBuilder(URI.create(base + "/upload"))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(upload))
+                        .build();
+            };
+            minute = (minute + 1) % 1440;
+            return request;
+        }
+
+        private HttpRequest get(String pathAndQuery) {
+            return HttpRequest.newBuilder(URI.create(base + pathAndQuery))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+        }
+
+        private static byte[] multipartBody() {
+            StringBuilder csv = new StringBuilder();
+            for (int minute = 0; minute < 1440; minute += 7) {
+                csv.append(String.format("%02d:%02d%n", minute / 60, minute % 60));
+            }
+            return ("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"times.csv\"\r\n"
+                    + "Content-Type: text/csv\r\n\r\n"
+                    + csv
+                    + "\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /** Collects latencies from the HTTP client's completion threads. */
+    private static final class Recorder {
+
+        private final long[][] latencies = new long[Scenario.values().length][1 << 12];
+        private final int[] counts = new int[Scenario.values().length];
+        private final int[] errors = new int[Scenario.values().length];
+
+        synchronized void record(Scenario scenario, long nanos, int status) {
+            int i = scenario.ordinal();
+            if (status != scenario.expectedStatus) {
+                errors[i]++;
+            }
+            if (counts[i] == latencies[i].length) {
+                latencies[i] = Arrays.copyOf(latencies[i], counts[i] * 2);
+            }
+            latencies[i][counts[i]++] = nanos;
+        }
+
+        synchronized Map<Scenario, Stats> stats() {
+            Map<Scenario, Stats> stats = new TreeMap<>();
+            for (Scenario scenario : Scenario.values()) {
+                int i = scenario.ordinal();
+                long[] sorted = Arrays.copyOf(latencies[i], counts[i]);
+                Arrays.sort(sorted);
+                stats.put(scenario, new Stats(scenario, sorted, errors[i]));
+            }
+            return stats;
+        }
+    }
+
+    /** Latencies of one scenario, failed requests included. */
+    private record Stats(Scenario scenario, long[] latencies, int errors) {
+
+        double okPerSecond(int seconds) {
+            return (double) (latencies.length - errors) / seconds;
+        }
+
+        double percentileMillis(double p) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.britishtime.load;
+
+import com.example.britishtime.BritishSpokenTimeApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the platform-thread Tomcat pool with virtual-thread execution under mixed traffic:
+ * a crowd of clients trickling multipart CSV uploads while a few clients issue cheap GETs.
+ *
+ * <p>The application is started in-process once per mode on a random port with a deliberately small
+ * Tomcat pool, and GET latency percentiles, GET throughput, GET timeouts and completed uploads are
+ * printed side by side. Tunables are system properties:
+ * <ul>
+ *   <li>{@code load.slow-uploads} — concurrent slow upload clients (default 64)</li>
+ *   <li>{@code load.upload-seconds} — how long each upload takes to send its body (default 4)</li>
+ *   <li>{@code load.get-clients} — concurrent GET clients (default 8)</li>
+ *   <li>{@code load.seconds} — measured duration per mode (default 10)</li>
+ *   <li>{@code load.tomcat-threads} — {@code server.tomcat.threads.max} for both modes (default 32)</li>
+ *   <li>{@code load.admission} — keep admission control on, which caps concurrent uploads (default false, so
+ *       the comparison measures the thread models alone)</li>
+ * </ul>
+ */
+public final class MixedTrafficLoadProfile {
+
+    private static final String BOUNDARY = "spoken-time-load";
+    private static final Duration GET_TIMEOUT = Duration.ofSeconds(2);
+    private static final int UPLOAD_PIECES = 20;
+
+    private MixedTrafficLoadProfile() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int slowUploads = Integer.getInteger("load.slow-uploads", 64);
+        int uploadSeconds = Integer.getInteger("load.upload-seconds", 4);
+        int getClients = Integer.getInteger("load.get-clients", 8);
+        int seconds = Integer.getInteger("load.seconds", 10);
+        int tomcatThreads = Integer.getInteger("load.tomcat-threads", 32);
+
+        System.out.printf("%d slow uploads (%ds each), %d GET clients, %ds per mode, server.tomcat.threads.max=%d%n%n",
+                slowUploads, uploadSeconds, getClients, seconds, tomcatThreads);
+        System.out.printf("%-9s %10s %10s %10s %10s %9s %8s%n",
+                "mode", "GET/s", "p50 ms", "p99 ms", "max ms", "timeouts", "uploads");
+        for (boolean virtual : new boolean[] {false, true}) {
+            Result result = run(virtual, slowUploads, uploadSeconds, getClients, seconds, tomcatThreads);
+            System.out.printf(Locale.ROOT, "%-9s %10.0f %10.2f %10.2f %10.2f %9d %8d%n",
+                    virtual ? "virtual" : "platform", result.getsPerSecond(seconds),
+                    result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(1.0),
+                    result.timeouts, result.uploads);
+        }
+    }
+
+    private static Result run(boolean virtual, int slowUploads, int uploadSeconds, int getClients,
+                              int seconds, int tomcatThreads) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(BritishSpokenTimeApplication.class)
+                        .web(WebApplicationType.SERVLET)
+                        .run(
+                                "--server.port=0",
+                                "--server.tomcat.threads.max=" + tomcatThreads,
+                                "--spoken-time.execution.virtual-threads=" + virtual,
+                                "--spoken-time.admission.enabled=" + Boolean.getBoolean("load.admission"),
+                                "--spring.main.banner-mode=off",
+                                "--logging.level.root=WARN")) {
+            int port = context.getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(GET_TIMEOUT)
+                    .build();
+            warmUp(client, port);
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger uploads = new AtomicInteger();
+            List<Thread> uploaders = new ArrayList<>(slowUploads);
+            for (int i = 0; i < slowUploads; i++) {
+                uploaders.add(Thread.ofVirtual().start(() -> slowUploads(port, uploadSeconds, running, uploads)));
+            }
+            // Let the uploads occupy request threads before measuring.
+            Thread.sleep(500);
+
+            List<GetClient> getters = new ArrayList<>(getClients);
+            for (int i = 0; i < getClients; i++) {
+                GetClient getter = new GetClient(client, port, running);
+                getters.add(getter);
+                getter.thread.start();
+            }
+            Thread.sleep(seconds * 1000L);
+            running.set(false);
+            for (GetClient getter : getters) {
+                getter.thread.join();
+            }
+            for (Thread uploader : uploaders) {
+                uploader.join();
+            }
+            return Result.merge(getters, uploads.get());
+        }
+    }
+
+    private static void warmUp(HttpClient client, int port) throws Exception {
+        HttpRequest request = getRequest(port, 7, 30);
+        for (int i = 0; i < 2_000; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    private static HttpRequest getRequest(int port, int hour, int minute) {
+        return HttpRequest.newBuilder(URI.create(String.format(
+                        "http://localhost:%d/api/v1/spoken-time?time=%02d:%02d", port, hour, minute)))
+                .timeout(GET_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    /**
+     * Sends multipart uploads back to back, each one trickling its body over {@code uploadSeconds},
+     * so the server-side request thread spends almost all its time blocked on the socket.
+     */
+    private static void slowUploads(int port, int uploadSeconds, AtomicBoolean running, AtomicInteger completed) {
+        byte[] body = multipartBody();
+        byte[] head = ("POST /api/v1/spoken-time/upload HTTP/1.1\r\n"
+                + "Host: localhost:" + port + "\r\n"
+                + "Content-Type: multipart/form-data; boundary=" + BOUNDARY + "\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        long pause = uploadSeconds * 1000L / UPLOAD_PIECES;
+        int piece = (body.length + UPLOAD_PIECES - 1) / UPLOAD_PIECES;
+        while (running.get()) {
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port));
+                OutputStream out = socket.getOutputStream();
+                out.write(head);
+                for (int off = 0; off < body.length; off += piece) {
+                    out.write(body, off, Math.min(piece, body.length - off));
+                    out.flush();
+                    Thread.sleep(pause);
+                }
+                InputStream in = socket.getInputStream();
+                byte[] status = in.readNBytes(12);
+                in.transferTo(OutputStream.nullOutputStream());
+                if (new String(status, StandardCharsets.US_ASCII).endsWith("200")) {
+                    completed.incrementAndGet();
+                }
+            } catch (IOException e) {
+                // The server was stopped mid-upload; the next loop check ends the client.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static byte[] multipartBody() {
+        StringBuilder csv = new StringBuilder();
+        for (int minute = 0; minute < 1440; minute += 7) {
+            csv.append(String.format("%02d:%02d%n", minute / 60, minute % 60));
+        }
+        return ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"times.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + csv
+                + "\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class GetClient implements Runnable {
+
+        final Thread thread = new Thread(this, "load-get");
+        private final HttpClient client;
+        private final int port;
+        private final AtomicBoolean running;
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private int timeouts;
+
+        GetClient(HttpClient client, int port, AtomicBoolean running) {
+            this.client = client;
+            this.port = port;
+            this.running = running;
+        }
+
+        @Override
+        public void run() {
+            int minute = 0;
+            while (running.get()) {
+                HttpRequest request = getRequest(port, minute / 60, minute % 60);
+                minute = (minute + 1) % 1440;
+                long start = System.nanoTime();
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                } catch (IOException e) {
+                    timeouts++;
+                    continue;
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+            }
+        }
+    }
+
+    private record Result(long[] latencies, int timeouts, int uploads) {
+
+        static Result merge(List<GetClient> getters, int uploads) {
+            long[] all = getters.stream()
+                    .flatMapToLong(g -> Arrays.stream(g.latencies, 0, g.count))
+                    .sorted()
+                    .toArray();
+            int timeouts = getters.stream().mapToInt(g -> g.timeouts).sum();
+            return new Result(all, timeouts, uploads);
+        }
+
+        double getsPerSecond(int seconds) {
+            return (double) latencies.length / seconds;
+        }
+
+        double percentileMillis(double p) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
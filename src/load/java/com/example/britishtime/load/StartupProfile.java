@@ -0,0 +1,149 @@
+package com.example.britishtime.load;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.jar.JarFile;
+
+/**
+ * Cold start of the packaged builds, as an autoscaler sees it: time from launching the process to the first
+ * successful conversion, and resident memory (VmRSS, Linux only) right after that request.
+ *
+ * <p>Compares the plain JVM jar, the same jar in Spring AOT mode when it was built with the {@code native}
+ * profile, and the native executable when one exists. Each build is started {@code startup.runs} times on
+ * a free port and the median and best are printed. Tunables are system properties:
+ * <ul>
+ *   <li>{@code startup.runs} — starts per build (default 5)</li>
+ *   <li>{@code startup.jar} — executable jar (default {@code target/british-spoken-time-1.0.0.jar})</li>
+ *   <li>{@code startup.native} — native executable (default {@code target/british-spoken-time})</li>
+ * </ul>
+ */
+public final class StartupProfile {
+
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(60);
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/com/example/britishtime/BritishSpokenTimeApplication__ApplicationContextInitializer.class";
+
+    private StartupProfile() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path jar = Path.of(System.getProperty("startup.jar", "target/british-spoken-time-1.0.0.jar"));
+        Path nativeImage = Path.of(System.getProperty("startup.native", "target/british-spoken-time"));
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        List<Build> builds = new ArrayList<>();
+        if (Files.isRegularFile(jar)) {
+            builds.add(new Build("jvm", List.of(java, "-jar", jar.toString())));
+            if (hasAotClasses(jar)) {
+                builds.add(new Build("jvm-aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", jar.toString())));
+            }
+        }
+        if (Files.isExecutable(nativeImage)) {
+            builds.add(new Build("native", List.of(nativeImage.toString())));
+        }
+        if (builds.isEmpty()) {
+            throw new IllegalStateException("Nothing to start: neither " + jar + " nor " + nativeImage + " exists");
+        }
+
+        System.out.printf("%d starts per build; first response = process launch to first 200 from GET /api/v1/spoken-time%n%n", runs);
+        System.out.printf("%-8s %14s %14s %12s%n", "build", "median ms", "best ms", "RSS MB");
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        for (Build build : builds) {
+            long[] millis = new long[runs];
+            long[] rss = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                Sample sample = start(build, client);
+                millis[run] = sample.millis;
+                rss[run] = sample.rssKilobytes;
+            }
+            Arrays.sort(millis);
+            Arrays.sort(rss);
+            System.out.printf(Locale.ROOT, "%-8s %14d %14d %12.1f%n",
+                    build.name, millis[runs / 2], millis[0], rss[runs / 2] / 1024.0);
+        }
+    }
+
+    private static Sample start(Build build, HttpClient client) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(build.command);
+        command.add("--server.port=" + port);
+        command.add("--logging.level.root=WARN");
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/spoken-time?time=07:30"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + START_TIMEOUT.toNanos();
+            while (true) {
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (ConnectException e) {
+                    // not listening yet
+                }
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(build.name + " exited with " + process.exitValue());
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException(build.name + " did not answer within " + START_TIMEOUT);
+                }
+                Thread.sleep(5);
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            return new Sample(millis, rssKilobytes(process.pid()));
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static long rssKilobytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return 0;
+    }
+
+    private static boolean hasAotClasses(Path jar) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return file.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Build(String name, List<String> command) {}
+
+    private record Sample(long millis, long rssKilobytes) {}
+}
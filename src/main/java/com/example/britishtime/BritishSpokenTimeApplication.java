@@ -1,11 +1,30 @@
 package com.example.britishtime;
 
+import com.example.britishtime.cli.ConvertCommand;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.Banner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
 
 @SpringBootApplication
 public class BritishSpokenTimeApplication {
     public static void main(String[] args) {
+        if (args.length > 0 && ConvertCommand.NAME.equals(args[0])) {
+            if (AotDetector.useGeneratedArtifacts()) {
+                // AOT and native builds are processed as a web application; the command's beans are not in them.
+                System.err.println("'" + ConvertCommand.NAME + "' needs the JVM build; AOT and native builds serve HTTP only");
+                System.exit(2);
+            }
+            // Offline batch conversion: no web server, exit with the command's status.
+            System.exit(SpringApplication.exit(new SpringApplicationBuilder(BritishSpokenTimeApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .bannerMode(Banner.Mode.OFF)
+                    .logStartupInfo(false)
+                    .properties("logging.level.root=warn")
+                    .run(args)));
+        }
         SpringApplication.run(BritishSpokenTimeApplication.class, args);
     }
 }
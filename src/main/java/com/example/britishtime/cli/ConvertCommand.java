@@ -0,0 +1,116 @@
+package com.example.britishtime.cli;
+
+import com.example.britishtime.exception.UnsupportedLocaleException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.model.UploadErrorMode;
+import com.example.britishtime.service.MappedFileConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnNotWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code convert --input=times.csv [--output=times.ndjson] [--locale=german] [--on-error=inline]}
+ *
+ * <p>Offline counterpart of the streaming upload endpoint for large CSV exports; see
+ * {@link MappedFileConverter}. Only present when the application is started without a web server,
+ * which {@code BritishSpokenTimeApplication} does for the {@code convert} command. Exits with 1 when
+ * an invalid cell aborted the conversion and 2 on a usage error: no {@code --input}, an input that is not a
+ * file, or an unknown {@code --locale} or {@code --on-error}.
+ */
+@Component
+@ConditionalOnNotWebApplication
+public class ConvertCommand implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final String NAME = "convert";
+    static final String USAGE = "usage: convert --input=<file.csv> [--output=<file.ndjson>] [--locale=british|german] [--on-error=abort|inline]";
+
+    private final MappedFileConverter converter;
+    private final UploadErrorMode defaultErrorMode;
+    private final PrintStream out;
+    private int exitCode;
+
+    @Autowired
+    public ConvertCommand(MappedFileConverter converter,
+                          @Value("${spoken-time.upload.on-error:abort}") UploadErrorMode defaultErrorMode) {
+        this(converter, defaultErrorMode, System.out);
+    }
+
+    ConvertCommand(MappedFileConverter converter, UploadErrorMode defaultErrorMode, PrintStream out) {
+        this.converter = converter;
+        this.defaultErrorMode = defaultErrorMode;
+        this.out = out;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.getNonOptionArgs().contains(NAME)) {
+            return;
+        }
+        String input = option(args, "input");
+        if (input == null) {
+            usageError(null);
+            return;
+        }
+        Path inputPath = Path.of(input);
+        if (!Files.isRegularFile(inputPath)) {
+            usageError("no such file: " + input);
+            return;
+        }
+        String output = option(args, "output");
+        Path outputPath = output != null ? Path.of(output) : Path.of(input + ".ndjson");
+        SpokenLocale locale;
+        try {
+            locale = SpokenLocale.resolve(option(args, "locale"));
+        } catch (UnsupportedLocaleException e) {
+            usageError("unknown --locale: " + option(args, "locale"));
+            return;
+        }
+        String onError = option(args, "on-error");
+        UploadErrorMode mode = defaultErrorMode;
+        if (onError != null) {
+            try {
+                mode = UploadErrorMode.valueOf(onError.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                usageError("unknown --on-error: " + onError);
+                return;
+            }
+        }
+
+        MappedFileConverter.Summary summary = converter.convert(inputPath, outputPath, locale, mode);
+
+        out.printf(Locale.ROOT, "%s -> %s: %d cells (%d invalid)%s in %.3f s%n",
+                inputPath, outputPath, summary.cells(), summary.errors(),
+                summary.aborted() ? ", aborted at first invalid cell" : "", summary.nanos() / 1e9);
+        out.printf(Locale.ROOT, "read %d bytes, wrote %d bytes: %.1f MB/s, %.0f cells/s%n",
+                summary.bytesRead(), summary.bytesWritten(), summary.megabytesPerSecond(), summary.cellsPerSecond());
+        exitCode = summary.aborted() ? 1 : 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private void usageError(String problem) {
+        if (problem != null) {
+            out.println(problem);
+        }
+        out.println(USAGE);
+        exitCode = 2;
+    }
+
+    private static String option(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? null : values.get(values.size() - 1);
+    }
+}
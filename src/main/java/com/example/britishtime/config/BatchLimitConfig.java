@@ -0,0 +1,121 @@
+package com.example.britishtime.config;
+
+import com.example.britishtime.exception.BatchTooLargeException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Enforces {@code spoken-time.batch.max-items} while a JSON request body is parsed, not after: the array of a batch
+ * request is counted as Jackson reads it, and the item past the limit ends parsing with a
+ * {@link BatchTooLargeException}. A body of millions of items is therefore rejected after reading the first
+ * {@code max-items + 1}, before they are all held in memory. Spring Boot adds the module to the application's
+ * {@code ObjectMapper}, which serves both the servlet and the reactive stack.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BatchLimitConfig {
+
+    @Bean
+    public Module batchLimitModule(@Value("${spoken-time.batch.max-items:10000}") int maxItems) {
+        SimpleModule module = new SimpleModule("spoken-time-batch-limit");
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type,
+                                                                    BeanDescription beanDesc,
+                                                                    JsonDeserializer<?> deserializer) {
+                return new BoundedCollectionDeserializer(deserializer, maxItems);
+            }
+        });
+        return module;
+    }
+
+    static BatchTooLargeException tooLarge(int maxItems) {
+        return new BatchTooLargeException("batch must not contain more than " + maxItems + " items");
+    }
+
+    /** Hands the collection deserializer a parser that counts the items of the array it reads. */
+    static final class BoundedCollectionDeserializer extends DelegatingDeserializer {
+
+        private final int maxItems;
+
+        BoundedCollectionDeserializer(JsonDeserializer<?> delegate, int maxItems) {
+            super(delegate);
+            this.maxItems = maxItems;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new BoundedCollectionDeserializer(newDelegatee, maxItems);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.hasToken(JsonToken.START_ARRAY)) {
+                return _delegatee.deserialize(p, ctxt);
+            }
+            try {
+                return _delegatee.deserialize(new CountingParser(p, maxItems), ctxt);
+            } catch (JsonMappingException e) {
+                // the collection deserializer wraps what its elements throw
+                if (e.getCause() instanceof BatchTooLargeException tooLarge) {
+                    throw tooLarge;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Checks the entry count of the array context after every step the collection deserializers take; the count
+     * comes from the underlying parser, so elements skipped or read through other methods are still counted.
+     */
+    static final class CountingParser extends JsonParserDelegate {
+
+        private final JsonStreamContext array;
+        private final int maxItems;
+
+        CountingParser(JsonParser parser, int maxItems) {
+            super(parser);
+            this.array = parser.getParsingContext();
+            this.maxItems = maxItems;
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            return check(delegate.nextToken());
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            return check(delegate.nextValue());
+        }
+
+        @Override
+        public String nextTextValue() throws IOException {
+            return check(delegate.nextTextValue());
+        }
+
+        private <T> T check(T value) {
+            if (array.getEntryCount() > maxItems) {
+                throw tooLarge(maxItems);
+            }
+            return value;
+        }
+    }
+}
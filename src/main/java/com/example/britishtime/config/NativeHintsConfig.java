@@ -0,0 +1,62 @@
+package com.example.britishtime.config;
+
+import com.example.britishtime.controller.TimeController;
+import com.example.britishtime.model.BinaryEncoding;
+import com.example.britishtime.model.DictionaryResponse;
+import com.example.britishtime.model.JobState;
+import com.example.britishtime.model.JobStatus;
+import com.example.britishtime.model.Meridiem;
+import com.example.britishtime.model.PhraseResult;
+import com.example.britishtime.model.TimeInput;
+import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.model.TimeResult;
+import com.example.britishtime.model.UploadErrorMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reflection hints for a GraalVM native image (the {@code native} Maven profile); on the JVM they are ignored.
+ *
+ * <p>Spring AOT infers the bodies of most controller methods, but not payloads that are only reachable through
+ * {@code ResponseEntity<?>} or {@code Flux<DataBuffer>}, nor the enums bound from request parameters, so every
+ * API type is registered for Jackson binding here. {@code ErrorPayload} is registered next to its handler. When
+ * springdoc is on the classpath it reads the OpenAPI annotations of the controllers and the schema classes they
+ * name at runtime, which needs the controller methods to be introspectable as well. The locale rules files are
+ * registered as resources.
+ */
+@Configuration(proxyBeanMethods = false)
+@RegisterReflectionForBinding({
+        TimeResponse.class, TimeResult.class, TimeInput.class, PhraseResult.class, DictionaryResponse.class,
+        UploadErrorMode.class, BinaryEncoding.class, Meridiem.class, JobStatus.class, JobState.class
+})
+@ImportRuntimeHints({NativeHintsConfig.LocaleRulesHints.class, NativeHintsConfig.SpringDocHints.class})
+public class NativeHintsConfig {
+
+    static final String SPRINGDOC_MARKER = "org.springdoc.core.configuration.SpringDocConfiguration";
+
+    /** The locale rules files, read from the classpath when the formatters are built. */
+    static class LocaleRulesHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("spoken-time/locales/*.properties");
+        }
+    }
+
+    static class SpringDocHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            if (!ClassUtils.isPresent(SPRINGDOC_MARKER, classLoader)) {
+                return;
+            }
+            hints.reflection().registerType(TimeController.class,
+                    MemberCategory.INTROSPECT_PUBLIC_METHODS, MemberCategory.INTROSPECT_DECLARED_CONSTRUCTORS);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.britishtime.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * WebFlux setup for the {@code reactive} profile. Tomcat is on the classpath for the servlet stack and
+ * would otherwise be picked as the reactive server too, so Netty is selected explicitly.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig implements WebFluxConfigurer {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        // Lenient enum binding for request parameters, e.g. onError=inline
+        ApplicationConversionService.addApplicationConverters(registry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.britishtime.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Runs request handling on Java 21 virtual threads when
+ * {@code spoken-time.execution.virtual-threads} is {@code true}.
+ *
+ * <p>Tomcat hands every request to a fresh virtual thread instead of its bounded worker pool, so a
+ * slow client trickling a multipart upload parks a virtual thread rather than pinning one of the
+ * {@code server.tomcat.threads.max} workers that GET traffic also needs. The MVC async executor
+ * (used to write {@code StreamingResponseBody} uploads) is switched over as well. CPU-bound chunk
+ * conversion stays on the {@code BatchConversionEngine} pool.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spoken-time.execution.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,522 @@
+package com.example.britishtime.controller;
+
+import com.example.britishtime.exception.BatchTooLargeException;
+import com.example.britishtime.exception.InvalidFileException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.metrics.BatchEndpoint;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.BinaryEncoding;
+import com.example.britishtime.model.DictionaryResponse;
+import com.example.britishtime.model.JobStatus;
+import com.example.britishtime.model.Meridiem;
+import com.example.britishtime.model.PhraseResult;
+import com.example.britishtime.model.TimeInput;
+import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.model.TimeResult;
+import com.example.britishtime.model.UploadErrorMode;
+import com.example.britishtime.service.BinaryTimeCodec;
+import com.example.britishtime.service.ConversionJobService;
+import com.example.britishtime.service.CsvCellTokenizer;
+import com.example.britishtime.service.ResponseDictionary;
+import com.example.britishtime.service.ReverseTimeService;
+import com.example.britishtime.service.TimeRange;
+import com.example.britishtime.service.TimeService;
+import com.example.britishtime.web.NowBroadcaster;
+import com.example.britishtime.web.SpokenTimeResponseCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * WebFlux counterpart of {@link TimeController}, active when the application runs as a reactive web
+ * application (the {@code reactive} Spring profile). Same paths, parameters and payloads.
+ *
+ * <p>Uploads are consumed as a stream of multipart {@link PartEvent}s: each {@link DataBuffer} of the
+ * file part is split into cells by a {@link CsvCellTokenizer}, converted straight from bytes and
+ * released before the next buffer is requested, so neither the file nor the results are held in
+ * memory. Results are written as each buffer is converted. Once the first result has been written the
+ * status is committed: an invalid cell later in a {@code application/json} upload terminates the
+ * response instead of producing a 400, so clients with large files should prefer NDJSON.
+ */
+@RestController
+@RequestMapping("/api/v1/spoken-time")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTimeController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(TimeController.NDJSON_VALUE);
+    private static final String FILE_PART = "file";
+    /** Range items encoded into each emitted buffer. */
+    private static final int RANGE_CHUNK = 256;
+
+    private final TimeService timeService;
+    private final ReverseTimeService reverseTimeService;
+    private final BinaryTimeCodec binaryCodec;
+    private final ConversionJobService jobs;
+    private final SpokenTimeResponseCache responseCache;
+    private final NowBroadcaster now;
+    private final SpokenTimeMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final CacheControl cacheControl;
+    private final UploadErrorMode defaultErrorMode;
+    private final int maxBatchItems;
+
+    public ReactiveTimeController(TimeService timeService,
+                                  ReverseTimeService reverseTimeService,
+                                  BinaryTimeCodec binaryCodec,
+                                  ConversionJobService jobs,
+                                  SpokenTimeResponseCache responseCache,
+                                  NowBroadcaster now,
+                                  SpokenTimeMetrics metrics,
+                                  ObjectMapper objectMapper,
+                                  @Value("${spoken-time.upload.on-error:abort}") UploadErrorMode defaultErrorMode,
+                                  @Value("${spoken-time.batch.max-items:10000}") int maxBatchItems,
+                                  @Value("${spoken-time.http-cache.max-age:365d}") Duration cacheMaxAge) {
+        this.timeService = timeService;
+        this.reverseTimeService = reverseTimeService;
+        this.binaryCodec = binaryCodec;
+        this.jobs = jobs;
+        this.responseCache = responseCache;
+        this.now = now;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic().immutable();
+        this.defaultErrorMode = defaultErrorMode;
+        this.maxBatchItems = maxBatchItems;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TimeResponse> spokenTime(
+            @RequestParam("time") String time,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return cacheable(timeService.toSpokenTime(time, SpokenLocale.resolve(locale)));
+    }
+
+    @GetMapping(value = "/{hour}/{minute}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TimeResponse> spokenTime(
+            @PathVariable int hour,
+            @PathVariable int minute,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return cacheable(timeService.toSpokenTime(hour, minute, SpokenLocale.resolve(locale)));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<TimeResult> batch(
+            @RequestBody List<TimeInput> times,
+            @RequestParam(value = "locale", required = false) String locale) {
+        if (times.size() > maxBatchItems) {
+            throw new BatchTooLargeException("batch must not contain more than " + maxBatchItems + " items");
+        }
+        List<TimeResult> results = timeService.toSpokenTimes(times, SpokenLocale.resolve(locale));
+        metrics.recordBatchSize(BatchEndpoint.BATCH, results.size());
+        return results;
+    }
+
+    @GetMapping(value = "/reverse", produces = MediaType.APPLICATION_JSON_VALUE)
+    public PhraseResult reverse(
+            @RequestParam("phrase") String phrase,
+            @RequestParam(value = "meridiem", required = false) Meridiem meridiem,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return PhraseResult.of(phrase, reverseTimeService.toTime(phrase, meridiem, SpokenLocale.resolve(locale)));
+    }
+
+    @PostMapping(value = "/reverse/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<PhraseResult> reverseBatch(
+            @RequestBody List<String> phrases,
+            @RequestParam(value = "meridiem", required = false) Meridiem meridiem,
+            @RequestParam(value = "locale", required = false) String locale) {
+        if (phrases.size() > maxBatchItems) {
+            throw new BatchTooLargeException("batch must not contain more than " + maxBatchItems + " items");
+        }
+        List<PhraseResult> results = reverseTimeService.toTimes(phrases, meridiem, SpokenLocale.resolve(locale));
+        metrics.recordBatchSize(BatchEndpoint.REVERSE_BATCH, results.size());
+        return results;
+    }
+
+    @GetMapping(value = "/instant", produces = MediaType.APPLICATION_JSON_VALUE)
+    public TimeResponse instant(
+            @RequestParam("at") String at,
+            @RequestParam("zone") String zone,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return timeService.toSpokenTimeAt(at, zone, SpokenLocale.resolve(locale));
+    }
+
+    @PostMapping(value = "/instant/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<TimeResult> instantBatch(
+            @RequestBody List<String> instants,
+            @RequestParam("zone") String zone,
+            @RequestParam(value = "locale", required = false) String locale) {
+        if (instants.size() > maxBatchItems) {
+            throw new BatchTooLargeException("batch must not contain more than " + maxBatchItems + " items");
+        }
+        List<TimeResult> results = timeService.toSpokenTimesAt(instants, zone, SpokenLocale.resolve(locale));
+        metrics.recordBatchSize(BatchEndpoint.INSTANT_BATCH, results.size());
+        return results;
+    }
+
+    @PostMapping(value = "/instant/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = TimeController.NDJSON_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> uploadInstants(
+            @RequestBody Flux<PartEvent> parts,
+            @RequestParam("zone") String zone,
+            @RequestParam(value = "locale", required = false) String locale) {
+        CsvCellTokenizer.CellConverter<TimeResult> converter =
+                timeService.instantConverter(zone, SpokenLocale.resolve(locale));
+        ObjectWriter writer = objectMapper.writerFor(TimeResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return ResponseEntity.ok().contentType(NDJSON)
+                .body(counted(BatchEndpoint.INSTANT_UPLOAD, convertCells(parts, converter)).map(chunk -> ndjson(writer, chunk)));
+    }
+
+    @GetMapping(value = "/now", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TimeResponse> now(
+            @RequestParam("zone") String zone,
+            @RequestParam(value = "locale", required = false) String locale) {
+        NowBroadcaster.Reading reading = now.read(timeService.zone(zone), SpokenLocale.resolve(locale));
+        TimeResponse response = reading.response();
+        CacheControl untilNextMinute = CacheControl.maxAge(Duration.ofSeconds(reading.secondsUntilNextMinute())).cachePublic();
+        SpokenTimeResponseCache.Entry entry = responseCache.lookup(response);
+        if (entry == null) {
+            return ResponseEntity.ok().cacheControl(untilNextMinute).body(response);
+        }
+        return ResponseEntity.ok().eTag(entry.etag()).cacheControl(untilNextMinute).body(response);
+    }
+
+    /**
+     * Writes the broadcaster's pre-encoded SSE frames as they are; only the latest frame is kept for a client that
+     * cannot keep up.
+     */
+    @GetMapping(value = "/now/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<DataBuffer> nowStream(
+            @RequestParam("zone") String zone,
+            @RequestParam(value = "locale", required = false) String locale) {
+        ZoneId zoneId = timeService.zone(zone);
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        return Flux.<byte[]>create(sink -> {
+                    NowBroadcaster.Subscription subscription = now.subscribe(zoneId, spokenLocale, sink::next);
+                    sink.onDispose(subscription::close);
+                }, FluxSink.OverflowStrategy.LATEST)
+                .take(now.streamTimeout())
+                .map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    @GetMapping(value = "/range", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> range(
+            @RequestParam("start") String start,
+            @RequestParam("end") String end,
+            @RequestParam(value = "step", defaultValue = "1") int step,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return range(start, end, step, locale, false);
+    }
+
+    @GetMapping(value = "/range", produces = TimeController.NDJSON_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> rangeStream(
+            @RequestParam("start") String start,
+            @RequestParam("end") String end,
+            @RequestParam(value = "step", defaultValue = "1") int step,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return range(start, end, step, locale, true);
+    }
+
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<TimeResponse> uploadCsv(
+            @RequestBody Flux<PartEvent> parts,
+            @RequestParam(value = "locale", required = false) String locale) {
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        Flux<List<TimeResponse>> chunks = convertCells(parts,
+                (bytes, offset, length) -> timeService.toSpokenTime(bytes, offset, length, spokenLocale));
+        return counted(BatchEndpoint.UPLOAD, chunks).flatMapIterable(Function.identity());
+    }
+
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE,
+            params = "dictionary=true")
+    public Mono<DictionaryResponse> uploadCsvDictionary(
+            @RequestBody Flux<PartEvent> parts,
+            @RequestParam(value = "locale", required = false) String locale) {
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        return Mono.defer(() -> {
+                    CellReader reader = new CellReader();
+                    ResponseDictionary dictionary = new ResponseDictionary(timeService, spokenLocale);
+                    CsvCellTokenizer.CellHandler handler = (bytes, offset, length) ->
+                            dictionary.accept(timeService.toMinuteOfDay(bytes, offset, length, spokenLocale));
+                    return fileContent(parts)
+                            .doOnNext(buffer -> reader.feed(buffer, handler))
+                            .then(Mono.fromSupplier(() -> {
+                                reader.finish(handler);
+                                if (dictionary.size() == 0) {
+                                    throw new InvalidFileException(TimeController.INVALID_FILE_MESSAGE);
+                                }
+                                return dictionary.toResponse();
+                            }))
+                            .doFinally(signal ->
+                                    metrics.recordBatchSize(BatchEndpoint.UPLOAD_DICTIONARY, dictionary.size()));
+                })
+                .doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * NDJSON records are encoded per input buffer rather than per record, so each buffer of the upload
+     * produces one write and one flush.
+     */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = TimeController.NDJSON_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> uploadCsvStream(
+            @RequestBody Flux<PartEvent> parts,
+            @RequestParam(value = "onError", required = false) UploadErrorMode onError,
+            @RequestParam(value = "locale", required = false) String locale) {
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        Flux<List<TimeResult>> chunks = convertCells(parts, timeService.resultConverter(spokenLocale));
+        if ((onError != null ? onError : defaultErrorMode) == UploadErrorMode.ABORT) {
+            chunks = chunks.map(ReactiveTimeController::upToFirstError)
+                    .takeUntil(chunk -> chunk.get(chunk.size() - 1).isError());
+        }
+        ObjectWriter writer = objectMapper.writerFor(TimeResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return ResponseEntity.ok().contentType(NDJSON)
+                .body(counted(BatchEndpoint.UPLOAD_STREAM, chunks).map(chunk -> ndjson(writer, chunk)));
+    }
+
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, params = "stream=true")
+    public ResponseEntity<Flux<DataBuffer>> uploadCsvStreamFlag(
+            @RequestBody Flux<PartEvent> parts,
+            @RequestParam(value = "onError", required = false) UploadErrorMode onError,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return uploadCsvStream(parts, onError, locale);
+    }
+
+    /** Converts each request buffer as it arrives; a value split across buffers is carried by the encoder. */
+    @PostMapping(value = "/upload", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> uploadBinary(
+            @RequestBody Flux<DataBuffer> body,
+            @RequestParam(value = "encoding", defaultValue = "text") BinaryEncoding encoding,
+            @RequestParam(value = "locale", required = false) String locale) {
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        BinaryTimeCodec.PhraseTable table = binaryCodec.phraseTable(spokenLocale);
+        Flux<DataBuffer> results = Flux.defer(() -> {
+                    BinaryTimeCodec.Encoder encoder = binaryCodec.encoder(spokenLocale, encoding);
+                    byte[][] scratch = {new byte[8192]};
+                    return body
+                            .map(buffer -> {
+                                try {
+                                    int length = buffer.readableByteCount();
+                                    if (length > scratch[0].length) {
+                                        scratch[0] = new byte[length];
+                                    }
+                                    buffer.read(scratch[0], 0, length);
+                                    ByteArrayOutputStream out = new ByteArrayOutputStream(length * 8);
+                                    encoder.feed(scratch[0], 0, length, out);
+                                    return out.toByteArray();
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                } finally {
+                                    DataBufferUtils.release(buffer);
+                                }
+                            })
+                            .concatWith(Mono.fromCallable(() -> {
+                                ByteArrayOutputStream out = new ByteArrayOutputStream(2);
+                                encoder.finish(out);
+                                return out.toByteArray();
+                            }))
+                            .filter(bytes -> bytes.length > 0)
+                            .switchIfEmpty(Flux.defer(() -> Flux.error(new InvalidFileException(TimeController.INVALID_FILE_MESSAGE))))
+                            .doFinally(signal -> metrics.recordBatchSize(BatchEndpoint.UPLOAD_BINARY,
+                                    (int) Math.min(encoder.values(), Integer.MAX_VALUE)));
+                })
+                .map(bytes -> (DataBuffer) DefaultDataBufferFactory.sharedInstance.wrap(bytes))
+                .doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM);
+        if (encoding == BinaryEncoding.IDS) {
+            builder.header(TimeController.PHRASE_TABLE_HEADER, table.etag());
+        }
+        return builder.body(results);
+    }
+
+    @GetMapping(value = "/phrases", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> phraseTable(@RequestParam(value = "locale", required = false) String locale) {
+        BinaryTimeCodec.PhraseTable table = binaryCodec.phraseTable(SpokenLocale.resolve(locale));
+        return ResponseEntity.ok().eTag(table.etag()).cacheControl(cacheControl).body(table.bytes());
+    }
+
+    /** The file part is written to the job's input file as it arrives; file I/O stays off the event loop. */
+    @PostMapping(value = "/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<JobStatus>> submitJob(
+            @RequestBody Flux<PartEvent> parts,
+            @RequestParam(value = "onError", required = false) UploadErrorMode onError,
+            @RequestParam(value = "locale", required = false) String locale) {
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        UploadErrorMode mode = onError != null ? onError : defaultErrorMode;
+        return Mono.fromCallable(jobs::createInput)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(input -> DataBufferUtils.write(fileContent(parts), input)
+                        .then(Mono.fromCallable(() -> jobs.submit(input, spokenLocale, mode))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                        .doOnError(e -> jobs.discard(input)))
+                .map(status -> ResponseEntity.accepted()
+                        .location(URI.create(TimeController.JOBS_PATH + status.id()))
+                        .body(status));
+    }
+
+    @GetMapping(value = "/jobs/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public JobStatus jobStatus(@PathVariable String id) {
+        return jobs.status(id);
+    }
+
+    @GetMapping(value = "/jobs/{id}/result", produces = TimeController.NDJSON_VALUE)
+    public ResponseEntity<Resource> jobResult(@PathVariable String id) {
+        return ResponseEntity.ok().contentType(NDJSON).body(new FileSystemResource(jobs.result(id)));
+    }
+
+    /** Encodes the range {@value #RANGE_CHUNK} items per buffer, each buffer only when downstream asks for it. */
+    private ResponseEntity<Flux<DataBuffer>> range(String start, String end, int step, String locale, boolean ndjson) {
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        TimeRange range = timeService.range(start, end, step);
+        int chunks = (range.count() + RANGE_CHUNK - 1) / RANGE_CHUNK;
+        Flux<DataBuffer> body = Flux.range(0, chunks)
+                .map(chunk -> {
+                    int from = chunk * RANGE_CHUNK;
+                    int to = Math.min(from + RANGE_CHUNK, range.count());
+                    ByteArrayOutputStream out = new ByteArrayOutputStream((to - from) * 64 + 2);
+                    try {
+                        responseCache.writeRange(range, spokenLocale, from, to, ndjson, out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return (DataBuffer) DefaultDataBufferFactory.sharedInstance.wrap(out.toByteArray());
+                })
+                .doOnComplete(() -> metrics.recordBatchSize(BatchEndpoint.RANGE, range.count()));
+        return ResponseEntity.ok()
+                .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    /** See {@code TimeController#cacheable}; WebFlux answers a matching If-None-Match with 304. */
+    private ResponseEntity<TimeResponse> cacheable(TimeResponse response) {
+        SpokenTimeResponseCache.Entry entry = responseCache.lookup(response);
+        if (entry == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(entry.etag()).cacheControl(cacheControl).body(response);
+    }
+
+    /**
+     * Converts every non-empty, trimmed cell of the {@code file} part, in file order, one list per input
+     * buffer. Buffers are pulled one at a time as downstream demand allows; an upload without any cell
+     * fails with invalid_file.
+     */
+    private <T> Flux<List<T>> convertCells(Flux<PartEvent> parts, CsvCellTokenizer.CellConverter<T> converter) {
+        return Flux.defer(() -> {
+                    CellReader reader = new CellReader();
+                    return fileContent(parts)
+                            .map(buffer -> {
+                                List<T> results = new ArrayList<>();
+                                reader.feed(buffer, CsvCellTokenizer.converting(converter, results::add));
+                                return results;
+                            })
+                            .concatWith(Mono.fromSupplier(() -> {
+                                List<T> results = new ArrayList<>(1);
+                                reader.finish(CsvCellTokenizer.converting(converter, results::add));
+                                return results;
+                            }));
+                })
+                .filter(chunk -> !chunk.isEmpty())
+                .switchIfEmpty(Flux.defer(() -> Flux.error(new InvalidFileException(TimeController.INVALID_FILE_MESSAGE))))
+                .doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release);
+    }
+
+    private <T> Flux<List<T>> counted(BatchEndpoint endpoint, Flux<List<T>> chunks) {
+        return Flux.defer(() -> {
+            int[] written = {0};
+            return chunks
+                    .doOnNext(chunk -> written[0] += chunk.size())
+                    .doFinally(signal -> metrics.recordBatchSize(endpoint, written[0]));
+        });
+    }
+
+    private static List<TimeResult> upToFirstError(List<TimeResult> chunk) {
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.get(i).isError()) {
+                return chunk.subList(0, i + 1);
+            }
+        }
+        return chunk;
+    }
+
+    private DataBuffer ndjson(ObjectWriter writer, List<TimeResult> chunk) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(chunk.size() * 64);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            for (TimeResult result : chunk) {
+                writer.writeValue(generator, result);
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return DefaultDataBufferFactory.sharedInstance.wrap(out.toByteArray());
+    }
+
+    private static Flux<DataBuffer> fileContent(Flux<PartEvent> parts) {
+        return parts.handle((event, sink) -> {
+            if (event instanceof FilePartEvent && FILE_PART.equals(event.name())) {
+                sink.next(event.content());
+            } else {
+                DataBufferUtils.release(event.content());
+            }
+        });
+    }
+
+    /**
+     * Splits the buffers of one upload into cells, copying each buffer once into a reused scratch array and
+     * releasing it; cells are handed to the caller's handler as ranges of that array.
+     */
+    private static final class CellReader {
+
+        private final CsvCellTokenizer tokenizer = new CsvCellTokenizer();
+        private byte[] scratch = new byte[8192];
+
+        void feed(DataBuffer buffer, CsvCellTokenizer.CellHandler handler) {
+            try {
+                int length = buffer.readableByteCount();
+                if (length > scratch.length) {
+                    scratch = new byte[length];
+                }
+                buffer.read(scratch, 0, length);
+                tokenizer.feed(scratch, 0, length, handler);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        void finish(CsvCellTokenizer.CellHandler handler) {
+            tokenizer.finish(handler);
+        }
+    }
+}
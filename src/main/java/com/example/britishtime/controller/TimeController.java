@@ -1,8 +1,35 @@
 // File: src/main/java/com/example/britishtime/controller/TimeController.java
 package com.example.britishtime.controller;
 
+import com.example.britishtime.exception.BatchTooLargeException;
+import com.example.britishtime.exception.InvalidFileException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.metrics.BatchEndpoint;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.BinaryEncoding;
+import com.example.britishtime.model.DictionaryResponse;
+import com.example.britishtime.model.JobStatus;
+import com.example.britishtime.model.Meridiem;
+import com.example.britishtime.model.PhraseResult;
+import com.example.britishtime.model.TimeInput;
 import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.model.TimeResult;
+import com.example.britishtime.model.UploadErrorMode;
+import com.example.britishtime.service.BatchConversionEngine;
+import com.example.britishtime.service.BinaryTimeCodec;
+import com.example.britishtime.service.ConversionJobService;
+import com.example.britishtime.service.CsvCellTokenizer;
+import com.example.britishtime.service.ResponseDictionary;
+import com.example.britishtime.service.ReverseTimeService;
+import com.example.britishtime.service.TimeRange;
 import com.example.britishtime.service.TimeService;
+import com.example.britishtime.web.LatestFrameWriter;
+import com.example.britishtime.web.NowBroadcaster;
+import com.example.britishtime.web.SpokenTimeResponseCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,17 +38,32 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/spoken-time")
 @Tag(
         name = "British Spoken Time API",
@@ -29,10 +71,51 @@ import java.util.List;
 )
 public class TimeController {
 
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+    private static final String LOCALE_DESCRIPTION = "Output locale: british (default, also en-GB/en) or german (de-DE/de)";
+    static final String INVALID_FILE_MESSAGE = "Invalid CSV format or unreadable input";
+    /** Carries the phrase table ETag on id-encoded binary results, so clients can tell which table to use. */
+    public static final String PHRASE_TABLE_HEADER = "X-Phrase-Table";
+    static final String JOBS_PATH = "/api/v1/spoken-time/jobs/";
+
     private final TimeService timeService;
+    private final ReverseTimeService reverseTimeService;
+    private final BatchConversionEngine batchEngine;
+    private final BinaryTimeCodec binaryCodec;
+    private final ConversionJobService jobs;
+    private final SpokenTimeResponseCache responseCache;
+    private final NowBroadcaster now;
+    private final SpokenTimeMetrics metrics;
+    private final CacheControl cacheControl;
+    private final ObjectMapper objectMapper;
+    private final UploadErrorMode defaultErrorMode;
+    private final int maxBatchItems;
 
-    public TimeController(TimeService timeService) {
+    public TimeController(TimeService timeService,
+                          ReverseTimeService reverseTimeService,
+                          BatchConversionEngine batchEngine,
+                          BinaryTimeCodec binaryCodec,
+                          ConversionJobService jobs,
+                          SpokenTimeResponseCache responseCache,
+                          NowBroadcaster now,
+                          SpokenTimeMetrics metrics,
+                          ObjectMapper objectMapper,
+                          @Value("${spoken-time.upload.on-error:abort}") UploadErrorMode defaultErrorMode,
+                          @Value("${spoken-time.batch.max-items:10000}") int maxBatchItems,
+                          @Value("${spoken-time.http-cache.max-age:365d}") Duration cacheMaxAge) {
         this.timeService = timeService;
+        this.reverseTimeService = reverseTimeService;
+        this.batchEngine = batchEngine;
+        this.binaryCodec = binaryCodec;
+        this.jobs = jobs;
+        this.responseCache = responseCache;
+        this.now = now;
+        this.metrics = metrics;
+        this.cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic().immutable();
+        this.objectMapper = objectMapper;
+        this.defaultErrorMode = defaultErrorMode;
+        this.maxBatchItems = maxBatchItems;
     }
 
     @Operation(
@@ -64,10 +147,12 @@ public class TimeController {
             )
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public TimeResponse spokenTime(
+    public ResponseEntity<TimeResponse> spokenTime(
             @Parameter(description = "Time in 24-hour format (HH:mm)", example = "07:30")
-            @RequestParam("time") String time) {
-        return timeService.toSpokenTime(time);
+            @RequestParam("time") String time,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        return cacheable(timeService.toSpokenTime(time, SpokenLocale.resolve(locale)));
     }
 
     @Operation(
@@ -98,12 +183,365 @@ public class TimeController {
             )
     })
     @GetMapping(value = "/{hour}/{minute}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public TimeResponse spokenTime(
+    public ResponseEntity<TimeResponse> spokenTime(
             @Parameter(description = "Hour in 24-hour format (0–23)", example = "9")
             @PathVariable int hour,
             @Parameter(description = "Minute in range (0–59)", example = "45")
-            @PathVariable int minute) {
-        return timeService.toSpokenTime(hour, minute);
+            @PathVariable int minute,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        return cacheable(timeService.toSpokenTime(hour, minute, SpokenLocale.resolve(locale)));
+    }
+
+    @Operation(
+            summary = "Convert a batch of times in one call",
+            description = "Accepts a JSON array whose items are either \"HH:mm\" strings or {\"hour\", \"minute\"} objects "
+                    + "and returns one result per item, in the same order. Invalid items are reported individually "
+                    + "with an 'error' field instead of failing the whole batch."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch converted; check each item for 'spoken' or 'error'",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TimeResult.class),
+                            examples = @ExampleObject(value = "[{ \"original\": \"07:30\", \"spoken\": \"half past seven\" }, "
+                                    + "{ \"original\": \"09:45\", \"spoken\": \"quarter to ten\" }, "
+                                    + "{ \"original\": \"25:99\", \"error\": \"hour must be between 0 and 23\" }]"))
+            ),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "More items than spoken-time.batch.max-items",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"batch_too_large\", \"message\": \"batch must not contain more than 10000 items\" }"))
+            )
+    })
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<TimeResult> batch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Times to convert",
+                    content = @Content(examples = @ExampleObject(value = "[\"07:30\", { \"hour\": 9, \"minute\": 45 }, \"25:99\"]")))
+            @RequestBody List<TimeInput> times,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        if (times.size() > maxBatchItems) {
+            throw new BatchTooLargeException("batch must not contain more than " + maxBatchItems + " items");
+        }
+        List<TimeResult> results = timeService.toSpokenTimes(times, SpokenLocale.resolve(locale));
+        metrics.recordBatchSize(BatchEndpoint.BATCH, results.size());
+        return results;
+    }
+
+    @Operation(
+            summary = "Convert a spoken phrase back to HH:mm",
+            description = "Inverse of the GET conversion: 'quarter to ten' → 09:45. Case, punctuation and leading "
+                    + "filler ('it's a') are ignored. A 12-hour phrase is resolved by a trailing 'am'/'pm' "
+                    + "('in the morning', 'in the evening', ...) if present, otherwise by the meridiem parameter, "
+                    + "otherwise as AM."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Phrase recognised",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PhraseResult.class),
+                            examples = @ExampleObject(value = "{ \"phrase\": \"quarter to ten\", \"time\": \"21:45\" }"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Phrase is not a spoken time",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"unrecognised_phrase\", \"message\": \"phrase is not a recognised spoken time\" }"))
+            )
+    })
+    @GetMapping(value = "/reverse", produces = MediaType.APPLICATION_JSON_VALUE)
+    public PhraseResult reverse(
+            @Parameter(description = "Spoken time", example = "quarter to ten")
+            @RequestParam("phrase") String phrase,
+            @Parameter(description = "am or pm, for 12-hour phrases without their own am/pm", example = "pm")
+            @RequestParam(value = "meridiem", required = false) Meridiem meridiem,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        return PhraseResult.of(phrase, reverseTimeService.toTime(phrase, meridiem, SpokenLocale.resolve(locale)));
+    }
+
+    @Operation(
+            summary = "Convert a batch of spoken phrases back to HH:mm",
+            description = "Accepts a JSON array of phrases and returns one result per phrase, in order. Unrecognised "
+                    + "phrases are reported individually with an 'error' field."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch converted; check each item for 'time' or 'error'",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PhraseResult.class),
+                            examples = @ExampleObject(value = "[{ \"phrase\": \"half past seven pm\", \"time\": \"19:30\" }, "
+                                    + "{ \"phrase\": \"lunchtime\", \"error\": \"phrase is not a recognised spoken time\" }]"))
+            ),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "More items than spoken-time.batch.max-items",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"batch_too_large\", \"message\": \"batch must not contain more than 10000 items\" }"))
+            )
+    })
+    @PostMapping(value = "/reverse/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<PhraseResult> reverseBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Phrases to convert",
+                    content = @Content(examples = @ExampleObject(value = "[\"half past seven pm\", \"quarter to ten\"]")))
+            @RequestBody List<String> phrases,
+            @Parameter(description = "am or pm, for 12-hour phrases without their own am/pm", example = "pm")
+            @RequestParam(value = "meridiem", required = false) Meridiem meridiem,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        if (phrases.size() > maxBatchItems) {
+            throw new BatchTooLargeException("batch must not contain more than " + maxBatchItems + " items");
+        }
+        List<PhraseResult> results = reverseTimeService.toTimes(phrases, meridiem, SpokenLocale.resolve(locale));
+        metrics.recordBatchSize(BatchEndpoint.REVERSE_BATCH, results.size());
+        return results;
+    }
+
+    @Operation(
+            summary = "Convert an instant to spoken local time in a time zone",
+            description = "Takes epoch milliseconds or an ISO-8601 timestamp with offset and an IANA zone id or offset, "
+                    + "and returns the spoken local time there; 'original' is the local HH:mm. Daylight saving "
+                    + "transitions are applied from the server's time zone database."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Instant converted",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TimeResponse.class),
+                            examples = @ExampleObject(value = "{ \"original\": \"07:30\", \"spoken\": \"half past seven\" }"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unreadable instant or unknown zone",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"unsupported_zone\", \"message\": \"Unknown time zone: Europe/Londres\" }"))
+            )
+    })
+    @GetMapping(value = "/instant", produces = MediaType.APPLICATION_JSON_VALUE)
+    public TimeResponse instant(
+            @Parameter(description = "Epoch milliseconds or ISO-8601 timestamp", example = "2024-07-01T06:30:00Z")
+            @RequestParam("at") String at,
+            @Parameter(description = "IANA zone id or UTC offset", example = "Europe/London")
+            @RequestParam("zone") String zone,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        return timeService.toSpokenTimeAt(at, zone, SpokenLocale.resolve(locale));
+    }
+
+    @Operation(
+            summary = "Convert a batch of instants to spoken local time in a time zone",
+            description = "Accepts a JSON array of epoch milliseconds (numbers or strings) and/or ISO-8601 timestamps "
+                    + "and returns one result per item, in order. Unreadable items carry an 'error'."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch converted; check each item for 'spoken' or 'error'",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TimeResult.class),
+                            examples = @ExampleObject(value = "[{ \"original\": \"07:30\", \"spoken\": \"half past seven\" }, "
+                                    + "{ \"original\": \"yesterday\", \"error\": \"instant must be epoch milliseconds or an ISO-8601 timestamp\" }]"))
+            ),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "More items than spoken-time.batch.max-items",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"batch_too_large\", \"message\": \"batch must not contain more than 10000 items\" }"))
+            )
+    })
+    @PostMapping(value = "/instant/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<TimeResult> instantBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Instants to convert",
+                    content = @Content(examples = @ExampleObject(value = "[1719815400000, \"2024-12-24T18:00:00Z\"]")))
+            @RequestBody List<String> instants,
+            @Parameter(description = "IANA zone id or UTC offset", example = "Europe/London")
+            @RequestParam("zone") String zone,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        if (instants.size() > maxBatchItems) {
+            throw new BatchTooLargeException("batch must not contain more than " + maxBatchItems + " items");
+        }
+        List<TimeResult> results = timeService.toSpokenTimesAt(instants, zone, SpokenLocale.resolve(locale));
+        metrics.recordBatchSize(BatchEndpoint.INSTANT_BATCH, results.size());
+        return results;
+    }
+
+    @Operation(
+            summary = "Convert an uploaded CSV of instants to spoken local time in a time zone, streamed as NDJSON",
+            description = "For bulk conversions beyond spoken-time.batch.max-items: cells are epoch milliseconds or "
+                    + "ISO-8601 timestamps, converted in parallel and written as one JSON record per line, in file "
+                    + "order, while the file is read. Unreadable cells carry an 'error'."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One record per cell",
+                    content = @Content(mediaType = NDJSON_VALUE,
+                            schema = @Schema(implementation = TimeResult.class),
+                            examples = @ExampleObject(value = "{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                                    + "{\"original\":\"yesterday\",\"error\":\"instant must be epoch milliseconds or an ISO-8601 timestamp\"}"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty file or unknown zone",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"unsupported_zone\", \"message\": \"Unknown time zone: Europe/Londres\" }"))
+            )
+    })
+    @PostMapping(value = "/instant/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> uploadInstants(
+            @Parameter(description = "CSV file of instants", required = true)
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = "IANA zone id or UTC offset", example = "Europe/London")
+            @RequestParam("zone") String zone,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+
+        CsvCellTokenizer.CellConverter<TimeResult> converter =
+                timeService.instantConverter(zone, SpokenLocale.resolve(locale));
+        if (file.isEmpty()) {
+            throw new InvalidFileException(INVALID_FILE_MESSAGE);
+        }
+        ObjectWriter writer = objectMapper.writerFor(TimeResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                convertCells(file, converter, result -> {
+                    writeRecord(writer, generator, result);
+                    written[0]++;
+                });
+            } finally {
+                metrics.recordBatchSize(BatchEndpoint.INSTANT_UPLOAD, written[0]);
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    @Operation(
+            summary = "Current spoken time in a time zone",
+            description = "Returns the spoken local time now. The response may be cached until the next minute "
+                    + "starts; clients that show a clock should prefer the event stream at /now/stream."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Current time, cacheable until the minute changes",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TimeResponse.class),
+                            examples = @ExampleObject(value = "{ \"original\": \"07:30\", \"spoken\": \"half past seven\" }"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown zone",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"unsupported_zone\", \"message\": \"Unknown time zone: Europe/Londres\" }"))
+            )
+    })
+    @GetMapping(value = "/now", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TimeResponse> now(
+            @Parameter(description = "IANA zone id or UTC offset", example = "Europe/London")
+            @RequestParam("zone") String zone,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        return untilNextMinute(now.read(timeService.zone(zone), SpokenLocale.resolve(locale)));
+    }
+
+    @Operation(
+            summary = "Stream the current spoken time in a time zone",
+            description = "Server-Sent Events: a 'time' event with the current time as soon as the stream opens, then "
+                    + "one at each minute boundary. The stream ends after spoken-time.now.stream-timeout; "
+                    + "EventSource clients reconnect on their own."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            examples = @ExampleObject(value = "event: time\ndata: {\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n\n"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown zone",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"unsupported_zone\", \"message\": \"Unknown time zone: Europe/Londres\" }"))
+            )
+    })
+    @GetMapping(value = "/now/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseBodyEmitter nowStream(
+            @Parameter(description = "IANA zone id or UTC offset", example = "Europe/London")
+            @RequestParam("zone") String zone,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        ZoneId zoneId = timeService.zone(zone);
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(now.streamTimeout().toMillis());
+        // The broadcaster must not block, so frames are written on a virtual thread, one at a time and newest last;
+        // the request itself holds no thread between events.
+        NowBroadcaster.Subscription subscription = now.subscribe(zoneId, spokenLocale,
+                new LatestFrameWriter(frame -> send(emitter, frame)));
+        emitter.onCompletion(subscription::close);
+        emitter.onError(error -> subscription.close());
+        emitter.onTimeout(emitter::complete);
+        return emitter;
+    }
+
+    @Operation(
+            summary = "Spoken times for a schedule of evenly spaced times",
+            description = "Returns every time from start to end inclusive, step minutes apart. An end before the start "
+                    + "wraps past midnight, so 22:00 to 02:00 covers the four hours around midnight; 00:00 to 23:59 "
+                    + "is the whole day. Items are written from the precomputed responses as the body is streamed, "
+                    + "never collected into a list. 'Accept: application/x-ndjson' gives one record per line."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Schedule converted",
+                    content = {
+                            @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = TimeResponse.class),
+                                    examples = @ExampleObject(value = "[{ \"original\": \"23:45\", \"spoken\": \"quarter to twelve\" }, "
+                                            + "{ \"original\": \"00:00\", \"spoken\": \"midnight\" }]")),
+                            @Content(mediaType = NDJSON_VALUE,
+                                    schema = @Schema(implementation = TimeResponse.class))
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid bound or step",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"invalid_time\", \"message\": \"step must be between 1 and 1440 minutes\" }"))
+            )
+    })
+    @GetMapping(value = "/range", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> range(
+            @Parameter(description = "First time in HH:mm format", example = "23:45")
+            @RequestParam("start") String start,
+            @Parameter(description = "Last time in HH:mm format, inclusive; before start wraps past midnight", example = "00:15")
+            @RequestParam("end") String end,
+            @Parameter(description = "Minutes between items, 1 to 1440", example = "15")
+            @RequestParam(value = "step", defaultValue = "1") int step,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        return range(start, end, step, locale, false);
+    }
+
+    @Operation(hidden = true)
+    @GetMapping(value = "/range", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> rangeStream(
+            @RequestParam("start") String start,
+            @RequestParam("end") String end,
+            @RequestParam(value = "step", defaultValue = "1") int step,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return range(start, end, step, locale, true);
     }
 
     @Operation(
@@ -128,25 +566,338 @@ public class TimeController {
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public List<TimeResponse> uploadCsv(
             @Parameter(description = "CSV file with times (e.g., times.csv)", required = true)
-            @RequestPart("file") MultipartFile file) throws IOException {
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
 
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
         List<TimeResponse> responses = new ArrayList<>();
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] times = line.split(",");
-                for (String time : times) {
-                    time = time.trim();
-                    if (!time.isEmpty()) {
-                        responses.add(timeService.toSpokenTime(time));
-                    }
+        int cells = convertCells(file,
+                (bytes, offset, length) -> timeService.toSpokenTime(bytes, offset, length, spokenLocale), responses::add);
+        if (cells == 0) {
+            throw new InvalidFileException(INVALID_FILE_MESSAGE);
+        }
+        metrics.recordBatchSize(BatchEndpoint.UPLOAD, cells);
+
+        return responses;
+    }
+
+    @Operation(
+            summary = "Upload CSV file with times and get dictionary-encoded results",
+            description = "Selected with 'dictionary=true'. Returns every distinct result once in 'dictionary' and, per "
+                    + "cell in file order, its position in 'indices'. There are at most 1440 distinct results per locale, "
+                    + "so large files shrink to roughly one number per cell."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "File processed successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DictionaryResponse.class),
+                            examples = @ExampleObject(value = "{ \"dictionary\": [{ \"original\": \"07:30\", \"spoken\": \"half past seven\" }, "
+                                    + "{ \"original\": \"12:00\", \"spoken\": \"noon\" }], \"indices\": [0, 1, 0] }"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid file or malformed data",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"invalid_file\", \"message\": \"Invalid CSV format or unreadable input\" }"))
+            )
+    })
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE,
+            params = "dictionary=true")
+    public DictionaryResponse uploadCsvDictionary(
+            @Parameter(description = "CSV file with times (e.g., times.csv)", required = true)
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        ResponseDictionary dictionary = new ResponseDictionary(timeService, spokenLocale);
+
+        int cells;
+        try (InputStream in = file.getInputStream()) {
+            cells = batchEngine.convertInts(in,
+                    (bytes, offset, length) -> timeService.toMinuteOfDay(bytes, offset, length, spokenLocale),
+                    dictionary);
+        } catch (IOException e) {
+            throw new InvalidFileException(INVALID_FILE_MESSAGE, e);
+        }
+        if (cells == 0) {
+            throw new InvalidFileException(INVALID_FILE_MESSAGE);
+        }
+        metrics.recordBatchSize(BatchEndpoint.UPLOAD_DICTIONARY, cells);
+
+        return dictionary.toResponse();
+    }
+
+    @Operation(
+            summary = "Upload CSV file with times and stream the results",
+            description = "Selected with 'Accept: application/x-ndjson' or 'stream=true'. Writes one JSON record per time "
+                    + "as soon as it is converted, so memory use does not grow with the file size. "
+                    + "With onError=inline a bad cell yields an error record and processing continues; "
+                    + "with onError=abort the error record ends the stream."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream of results, one JSON object per line",
+                    content = @Content(mediaType = NDJSON_VALUE,
+                            schema = @Schema(implementation = TimeResult.class),
+                            examples = @ExampleObject(value = "{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                                    + "{\"original\":\"25:99\",\"error\":\"hour must be between 0 and 23\"}"))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty file",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"invalid_file\", \"message\": \"Invalid CSV format or unreadable input\" }"))
+            )
+    })
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> uploadCsvStream(
+            @Parameter(description = "CSV file with times (e.g., times.csv)", required = true)
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = "How to handle invalid cells (abort or inline); defaults to spoken-time.upload.on-error")
+            @RequestParam(value = "onError", required = false) UploadErrorMode onError,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        if (file.isEmpty()) {
+            throw new InvalidFileException(INVALID_FILE_MESSAGE);
+        }
+        UploadErrorMode mode = onError != null ? onError : defaultErrorMode;
+        ObjectWriter writer = objectMapper.writerFor(TimeResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                try {
+                    convertCells(file, timeService.resultConverter(spokenLocale), result -> {
+                        writeRecord(writer, generator, result);
+                        written[0]++;
+                        if (result.isError() && mode == UploadErrorMode.ABORT) {
+                            throw new StreamAborted();
+                        }
+                    });
+                } catch (StreamAborted ignored) {
+                    // error record already written
                 }
+            } finally {
+                metrics.recordBatchSize(BatchEndpoint.UPLOAD_STREAM, written[0]);
             }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    @Operation(hidden = true)
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> uploadCsvStreamFlag(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(value = "onError", required = false) UploadErrorMode onError,
+            @RequestParam(value = "locale", required = false) String locale) {
+        return uploadCsvStream(file, onError, locale);
+    }
+
+    private ResponseEntity<StreamingResponseBody> range(String start, String end, int step, String locale, boolean ndjson) {
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        TimeRange range = timeService.range(start, end, step);
+        StreamingResponseBody body = out -> {
+            responseCache.writeRange(range, spokenLocale, 0, range.count(), ndjson, out);
+            metrics.recordBatchSize(BatchEndpoint.RANGE, range.count());
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Convert packed minute-of-day values",
+            description = "For service-to-service bulk traffic. The body is a sequence of big-endian unsigned 16-bit "
+                    + "minutes of day (0-1439). Each value yields, in order, either a 16-bit byte length followed by "
+                    + "the UTF-8 phrase (encoding=text) or a 16-bit id into the phrase table (encoding=ids); 0xFFFF "
+                    + "marks a value that is not a minute of day. Results are streamed as the body is read."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Packed results; id-encoded responses name their phrase table in X-Phrase-Table",
+                    content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty body",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"invalid_file\", \"message\": \"Invalid CSV format or unreadable input\" }"))
+            )
+    })
+    @PostMapping(value = "/upload", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> uploadBinary(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Big-endian 16-bit minutes of day")
+            InputStream body,
+            @Parameter(description = "Result encoding: text (length-prefixed UTF-8, default) or ids (phrase table ids)")
+            @RequestParam(value = "encoding", defaultValue = "text") BinaryEncoding encoding,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) throws IOException {
+
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        BinaryTimeCodec.PhraseTable table = binaryCodec.phraseTable(spokenLocale);
+        PushbackInputStream in = new PushbackInputStream(body);
+        int first = in.read();
+        if (first < 0) {
+            throw new InvalidFileException(INVALID_FILE_MESSAGE);
+        }
+        in.unread(first);
+
+        StreamingResponseBody response = out -> {
+            long values = binaryCodec.convert(in, out, spokenLocale, encoding);
+            metrics.recordBatchSize(BatchEndpoint.UPLOAD_BINARY, (int) Math.min(values, Integer.MAX_VALUE));
+        };
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM);
+        if (encoding == BinaryEncoding.IDS) {
+            builder.header(PHRASE_TABLE_HEADER, table.etag());
+        }
+        return builder.body(response);
+    }
+
+    @Operation(
+            summary = "Phrase table for id-encoded binary results",
+            description = "Big-endian 16-bit count followed by that many phrases, each a 16-bit byte length and UTF-8; "
+                    + "a phrase's id is its position. Fixed for a given formatter, so it is served with a strong ETag "
+                    + "and long-lived Cache-Control and only needs fetching once."
+    )
+    @GetMapping(value = "/phrases", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> phraseTable(
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) {
+        BinaryTimeCodec.PhraseTable table = binaryCodec.phraseTable(SpokenLocale.resolve(locale));
+        return ResponseEntity.ok().eTag(table.etag()).cacheControl(cacheControl).body(table.bytes());
+    }
+
+    @Operation(
+            summary = "Submit a CSV file for background conversion",
+            description = "For files too large to convert within one request. The file is stored and queued, and the "
+                    + "response returns at once with the job id; poll GET /jobs/{id} and download GET /jobs/{id}/result "
+                    + "once the job has SUCCEEDED. The result is NDJSON, the same records as the streaming upload."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job queued; Location points at its status",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = JobStatus.class),
+                            examples = @ExampleObject(value = "{ \"id\": \"0b7c…\", \"state\": \"QUEUED\", \"progress\": 0.0 }"))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Job queue is full",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{ \"code\": \"job_queue_full\", \"message\": \"conversion job queue is full, retry later\" }"))
+            )
+    })
+    @PostMapping(value = "/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JobStatus> submitJob(
+            @Parameter(description = "CSV file with times (e.g., times.csv)", required = true)
+            @RequestPart("file") MultipartFile file,
+            @Parameter(description = "How to handle invalid cells (abort or inline); defaults to spoken-time.upload.on-error")
+            @RequestParam(value = "onError", required = false) UploadErrorMode onError,
+            @Parameter(description = LOCALE_DESCRIPTION, example = "british")
+            @RequestParam(value = "locale", required = false) String locale) throws IOException {
+
+        SpokenLocale spokenLocale = SpokenLocale.resolve(locale);
+        Path input = jobs.createInput();
+        try {
+            file.transferTo(input);
         } catch (IOException e) {
-            throw new IOException("Error reading CSV file", e);
+            jobs.discard(input);
+            throw new InvalidFileException(INVALID_FILE_MESSAGE, e);
         }
+        JobStatus status = jobs.submit(input, spokenLocale, onError != null ? onError : defaultErrorMode);
+        return ResponseEntity.accepted().location(URI.create(JOBS_PATH + status.id())).body(status);
+    }
 
-        return responses;
+    @Operation(summary = "Status and progress of a conversion job")
+    @GetMapping(value = "/jobs/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public JobStatus jobStatus(@PathVariable String id) {
+        return jobs.status(id);
+    }
+
+    @Operation(
+            summary = "Download the result of a conversion job",
+            description = "NDJSON, one record per cell. 409 until the job has SUCCEEDED; jobs are removed "
+                    + "spoken-time.jobs.retention after they finish."
+    )
+    @GetMapping(value = "/jobs/{id}/result", produces = NDJSON_VALUE)
+    public ResponseEntity<Resource> jobResult(@PathVariable String id) {
+        return ResponseEntity.ok().contentType(NDJSON).body(new FileSystemResource(jobs.result(id)));
+    }
+
+    /**
+     * Adds a strong ETag and a Cache-Control that expires when the current minute ends to a {@code /now} response.
+     */
+    private ResponseEntity<TimeResponse> untilNextMinute(NowBroadcaster.Reading reading) {
+        TimeResponse response = reading.response();
+        CacheControl untilNextMinute = CacheControl.maxAge(Duration.ofSeconds(reading.secondsUntilNextMinute())).cachePublic();
+        SpokenTimeResponseCache.Entry entry = responseCache.resolve(response);
+        if (entry == null) {
+            return ResponseEntity.ok().cacheControl(untilNextMinute).body(response);
+        }
+        return ResponseEntity.ok().eTag(entry.etag()).cacheControl(untilNextMinute).body(response);
+    }
+
+    private static void send(ResponseBodyEmitter emitter, byte[] frame) {
+        try {
+            emitter.send(frame, MediaType.TEXT_EVENT_STREAM);
+        } catch (IOException | IllegalStateException e) {
+            // the client has gone or the stream has ended; the container's error or completion callback closes
+            // the subscription
+        }
+    }
+
+    /**
+     * Adds a strong ETag and long-lived Cache-Control to responses served from the response cache;
+     * a matching If-None-Match is then answered with 304 by Spring MVC.
+     */
+    private ResponseEntity<TimeResponse> cacheable(TimeResponse response) {
+        SpokenTimeResponseCache.Entry entry = responseCache.resolve(response);
+        if (entry == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(entry.etag()).cacheControl(cacheControl).body(response);
+    }
+
+    /**
+     * Feeds every non-empty, trimmed cell of the uploaded CSV, as undecoded bytes, through {@code converter}
+     * and the results, in file order, to {@code sink}. Returns the number of cells.
+     */
+    private <T> int convertCells(MultipartFile file, CsvCellTokenizer.CellConverter<T> converter,
+                                 Consumer<? super T> sink) {
+        try (InputStream in = file.getInputStream()) {
+            return batchEngine.convertBytes(in, converter, sink);
+        } catch (IOException e) {
+            throw new InvalidFileException(INVALID_FILE_MESSAGE, e);
+        }
+    }
+
+    private static void writeRecord(ObjectWriter writer, JsonGenerator generator, TimeResult result) {
+        try {
+            writer.writeValue(generator, result);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Unwinds the cell loop once an abort-mode error record has been written. */
+    private static final class StreamAborted extends RuntimeException {
+        StreamAborted() {
+            super(null, null, false, false);
+        }
     }
 }
@@ -0,0 +1,15 @@
+package com.example.britishtime.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFileException extends RuntimeException {
+    public InvalidFileException(String message) {
+        super(message);
+    }
+
+    public InvalidFileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,11 +1,31 @@
 package com.example.britishtime.exception;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class InvalidTimeException extends RuntimeException {
+
+    /** Prebuilt 400 response for shared instances, {@code null} otherwise. */
+    final ResponseEntity<?> response;
+
     public InvalidTimeException(String message) {
         super(message);
+        this.response = null;
+    }
+
+    private InvalidTimeException(String message, ResponseEntity<?> response) {
+        // no stack trace, no suppression, no cause: the instance is immutable and can be thrown from any thread
+        super(message, null, false, false);
+        this.response = response;
+    }
+
+    /**
+     * Creates a stackless instance for a fixed message, meant to be allocated once and rethrown.
+     * Its error response body is built up front as well.
+     */
+    public static InvalidTimeException shared(String message) {
+        return new InvalidTimeException(message, RestExceptionHandler.invalidTime(message));
     }
 }
@@ -0,0 +1,11 @@
+package com.example.britishtime.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class JobNotFinishedException extends RuntimeException {
+    public JobNotFinishedException(String message) {
+        super(message);
+    }
+}
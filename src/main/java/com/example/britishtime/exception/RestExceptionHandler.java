@@ -1,15 +1,76 @@
 package com.example.britishtime.exception;
 
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
 
 @RestControllerAdvice
+@RegisterReflectionForBinding(RestExceptionHandler.ErrorPayload.class)
 public class RestExceptionHandler {
 
     @ExceptionHandler(InvalidTimeException.class)
     public ResponseEntity<?> handleInvalid(InvalidTimeException ex) {
-        return ResponseEntity.badRequest().body(new ErrorPayload("invalid_time", ex.getMessage()));
+        if (ex.response != null) {
+            return ex.response;
+        }
+        return invalidTime(ex.getMessage());
+    }
+
+    @ExceptionHandler(UnrecognisedPhraseException.class)
+    public ResponseEntity<?> handleUnrecognisedPhrase(UnrecognisedPhraseException ex) {
+        if (ex.response != null) {
+            return ex.response;
+        }
+        return unrecognisedPhrase(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidFileException.class)
+    public ResponseEntity<?> handleInvalidFile(InvalidFileException ex) {
+        return ResponseEntity.badRequest().body(new ErrorPayload("invalid_file", ex.getMessage()));
+    }
+
+    @ExceptionHandler(UnsupportedLocaleException.class)
+    public ResponseEntity<?> handleUnsupportedLocale(UnsupportedLocaleException ex) {
+        return ResponseEntity.badRequest().body(new ErrorPayload("unsupported_locale", ex.getMessage()));
+    }
+
+    @ExceptionHandler(UnsupportedZoneException.class)
+    public ResponseEntity<?> handleUnsupportedZone(UnsupportedZoneException ex) {
+        return ResponseEntity.badRequest().body(new ErrorPayload("unsupported_zone", ex.getMessage()));
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<?> handleBatchTooLarge(BatchTooLargeException ex) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(new ErrorPayload("batch_too_large", ex.getMessage()));
+    }
+
+    @ExceptionHandler(UnknownJobException.class)
+    public ResponseEntity<?> handleUnknownJob(UnknownJobException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorPayload("unknown_job", ex.getMessage()));
+    }
+
+    @ExceptionHandler(JobNotFinishedException.class)
+    public ResponseEntity<?> handleJobNotFinished(JobNotFinishedException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorPayload("job_not_finished", ex.getMessage()));
+    }
+
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<?> handleJobQueueFull(JobQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorPayload("job_queue_full", ex.getMessage()));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<?> handleUnreadableBody(HttpMessageNotReadableException ex) {
+        return invalidRequest("request body is missing or not valid JSON");
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<?> handleServerWebInput(ServerWebInputException ex) {
+        return invalidRequest(ex.getReason());
     }
 
     @ExceptionHandler(Exception.class)
@@ -17,5 +78,17 @@ public class RestExceptionHandler {
         return ResponseEntity.internalServerError().body(new ErrorPayload("server_error", ex.getMessage()));
     }
 
+    static ResponseEntity<?> invalidTime(String message) {
+        return ResponseEntity.badRequest().body(new ErrorPayload("invalid_time", message));
+    }
+
+    static ResponseEntity<?> invalidRequest(String message) {
+        return ResponseEntity.badRequest().body(new ErrorPayload("invalid_request", message));
+    }
+
+    static ResponseEntity<?> unrecognisedPhrase(String message) {
+        return ResponseEntity.badRequest().body(new ErrorPayload("unrecognised_phrase", message));
+    }
+
     record ErrorPayload(String code, String message) {}
 }
@@ -0,0 +1,11 @@
+package com.example.britishtime.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class UnknownJobException extends RuntimeException {
+    public UnknownJobException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.britishtime.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnrecognisedPhraseException extends RuntimeException {
+
+    /** Prebuilt 400 response for shared instances, {@code null} otherwise. */
+    final ResponseEntity<?> response;
+
+    public UnrecognisedPhraseException(String message) {
+        super(message);
+        this.response = null;
+    }
+
+    private UnrecognisedPhraseException(String message, ResponseEntity<?> response) {
+        super(message, null, false, false);
+        this.response = response;
+    }
+
+    /** Stackless instance with a prebuilt error response; see {@link InvalidTimeException#shared}. */
+    public static UnrecognisedPhraseException shared(String message) {
+        return new UnrecognisedPhraseException(message, RestExceptionHandler.unrecognisedPhrase(message));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.britishtime.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnsupportedLocaleException extends IllegalArgumentException {
+    public UnsupportedLocaleException(String message) {
+        super(message);
+    }
+}
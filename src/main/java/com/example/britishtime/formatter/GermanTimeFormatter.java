@@ -1,8 +1,11 @@
 package com.example.britishtime.formatter;
 
-public class GermanTimeFormatter implements TimeFormatterStrategy {
-    @Override
-    public String format(int hour24, int minute) {
-        return "";
+/**
+ * German, compiled from {@code spoken-time/locales/german.properties}.
+ */
+public class GermanTimeFormatter extends RuleBasedTimeFormatter {
+
+    public GermanTimeFormatter() {
+        super(SpokenLocale.GERMAN);
     }
 }
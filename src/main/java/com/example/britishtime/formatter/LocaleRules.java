@@ -0,0 +1,341 @@
+package com.example.britishtime.formatter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The spoken-time rules of one locale, declared as data in {@code spoken-time/locales/<key>.properties} (UTF-8) and
+ * compiled into a flat phrase table by {@link #compile()}.
+ *
+ * <p>Keys:
+ * <ul>
+ *   <li>{@code extends} — a locale whose rules this one starts from; every key set here replaces the inherited one,
+ *       so a regional variant only lists what it says differently</li>
+ *   <li>{@code numbers} — comma-separated words from zero; below sixty the rest is built from {@code tens} (twenty
+ *       to fifty) and the {@code compound} pattern over {@code {tens}} and {@code {ones}}, whose ones words may be
+ *       replaced by {@code compound-ones}</li>
+ *   <li>{@code clock} — {@code 12} (default) or {@code 24}</li>
+ *   <li>{@code hours}, {@code hours.<form>} — hour names from one to twelve (from zero on a 24-hour clock);
+ *       {@code hours} defaults to the number words</li>
+ *   <li>{@code minute.<m>}, {@code minute.<from>-<to>[/<step>]}, {@code minute.*} — the phrase for those minutes
+ *       of every hour; an exact minute beats a range, a range beats {@code *}</li>
+ *   <li>{@code at.<HHmm>} — a fixed phrase for one time of day, such as midnight</li>
+ * </ul>
+ * Phrases may use {@code {hour}}, {@code {next}} (the following hour), {@code {minute}}, {@code {to}} (minutes left
+ * to the next hour) and {@code {hour.<form>}}/{@code {next.<form>}}. Where a locale starts naming the next hour is
+ * therefore part of its data: it is wherever its phrases say {@code {next}}.
+ *
+ * <p>Every mistake in a file — an unknown key or placeholder, overlapping ranges, a minute without a phrase, a
+ * word list of the wrong length — fails {@link #compile()}, and with it startup.
+ */
+public final class LocaleRules {
+
+    static final String LOCATION = "spoken-time/locales/";
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([a-z]+)(?:\\.([a-z-]+))?}");
+    private static final Pattern MINUTE_RANGE = Pattern.compile("(\\d+)-(\\d+)(?:/(\\d+))?");
+    private static final Pattern TIME_OF_DAY = Pattern.compile("([01]\\d|2[0-3])([0-5]\\d)");
+
+    private final String name;
+    private final Properties properties;
+
+    private LocaleRules(String name, Properties properties) {
+        this.name = name;
+        this.properties = properties;
+    }
+
+    /** The rules of {@code locale}, with everything it extends resolved. */
+    public static LocaleRules load(SpokenLocale locale) {
+        return new LocaleRules(locale.key(), read(locale.key(), new LinkedHashSet<>()));
+    }
+
+    /** Whether {@code locale} ships a rules file. */
+    public static boolean exists(SpokenLocale locale) {
+        return LocaleRules.class.getClassLoader().getResource(location(locale.key())) != null;
+    }
+
+    /** Rules given inline in properties syntax; {@code extends} still refers to shipped files. */
+    static LocaleRules parse(String name, String rules) {
+        Properties own = new Properties();
+        try {
+            own.load(new StringReader(rules));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Set<String> seen = new LinkedHashSet<>();
+        seen.add(name);
+        return new LocaleRules(name, inherit(own, seen));
+    }
+
+    private static String location(String key) {
+        return LOCATION + key + ".properties";
+    }
+
+    private static Properties read(String key, Set<String> seen) {
+        if (!seen.add(key)) {
+            throw new IllegalStateException("Locale rules extend each other in a cycle: " + seen + " -> " + key);
+        }
+        InputStream in = LocaleRules.class.getClassLoader().getResourceAsStream(location(key));
+        if (in == null) {
+            throw new IllegalStateException("No locale rules at " + location(key));
+        }
+        Properties own = new Properties();
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            own.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + location(key), e);
+        }
+        return inherit(own, seen);
+    }
+
+    private static Properties inherit(Properties own, Set<String> seen) {
+        String parent = own.getProperty("extends");
+        if (parent == null) {
+            return own;
+        }
+        Properties merged = new Properties();
+        merged.putAll(read(parent.trim(), seen));
+        merged.putAll(own);
+        merged.remove("extends");
+        return merged;
+    }
+
+    /**
+     * Renders the phrase of every minute of the day, indexed by {@code hour24 * 60 + minute}.
+     *
+     * @throws IllegalStateException if the rules are incomplete or inconsistent
+     */
+    public String[] compile() {
+        for (String key : properties.stringPropertyNames()) {
+            if (!isKnownKey(key)) {
+                throw invalid("unknown key '" + key + "'");
+            }
+        }
+        int clock = clock();
+        String[] numbers = numberWords();
+        Phrase[] byMinute = minutePhrases(numbers, clock);
+        String[] table = new String[24 * MINUTES_PER_HOUR];
+        for (int minuteOfDay = 0; minuteOfDay < table.length; minuteOfDay++) {
+            int hour24 = minuteOfDay / MINUTES_PER_HOUR;
+            int minute = minuteOfDay % MINUTES_PER_HOUR;
+            table[minuteOfDay] = byMinute[minute].render(hour24, minute);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith("at.")) {
+                Matcher time = TIME_OF_DAY.matcher(key.substring(3));
+                if (!time.matches()) {
+                    throw invalid("'" + key + "' is not a time of day (at.HHmm)");
+                }
+                int minuteOfDay = Integer.parseInt(time.group(1)) * MINUTES_PER_HOUR + Integer.parseInt(time.group(2));
+                table[minuteOfDay] = properties.getProperty(key).trim();
+            }
+        }
+        return table;
+    }
+
+    private static boolean isKnownKey(String key) {
+        return switch (key) {
+            case "numbers", "tens", "compound", "compound-ones", "clock", "hours" -> true;
+            default -> key.startsWith("hours.") || key.startsWith("minute.") || key.startsWith("at.");
+        };
+    }
+
+    private int clock() {
+        String clock = properties.getProperty("clock", "12").trim();
+        return switch (clock) {
+            case "12" -> 12;
+            case "24" -> 24;
+            default -> throw invalid("clock must be 12 or 24, not " + clock);
+        };
+    }
+
+    private String[] numberWords() {
+        List<String> given = list("numbers");
+        if (given == null || given.size() < 20) {
+            throw invalid("numbers must name at least zero to nineteen");
+        }
+        String[] words = new String[MINUTES_PER_HOUR];
+        for (int n = 0; n < words.length && n < given.size(); n++) {
+            words[n] = given.get(n);
+        }
+        if (given.size() >= MINUTES_PER_HOUR) {
+            return words;
+        }
+        List<String> tens = list("tens");
+        String compound = properties.getProperty("compound");
+        if (tens == null || tens.size() != 4 || compound == null) {
+            throw invalid("numbers stop at " + (given.size() - 1) + ", so tens (twenty to fifty) and compound are needed");
+        }
+        List<String> ones = list("compound-ones");
+        if (ones != null && ones.size() != 10) {
+            throw invalid("compound-ones must name zero to nine");
+        }
+        for (int n = given.size(); n < MINUTES_PER_HOUR; n++) {
+            String tensWord = tens.get(n / 10 - 2);
+            if (n % 10 == 0) {
+                words[n] = tensWord;
+            } else {
+                String onesWord = ones != null ? ones.get(n % 10) : words[n % 10];
+                words[n] = compound.trim().replace("{tens}", tensWord).replace("{ones}", onesWord);
+            }
+        }
+        return words;
+    }
+
+    private String[] hourWords(String form, String[] numbers, int clock) {
+        String key = form == null ? "hours" : "hours." + form;
+        List<String> given = list(key);
+        if (given == null) {
+            if (form != null) {
+                throw invalid("a phrase uses {hour." + form + "} but " + key + " is not declared");
+            }
+            return Arrays.copyOfRange(numbers, clock == 12 ? 1 : 0, clock == 12 ? 13 : 24);
+        }
+        if (given.size() != clock) {
+            throw invalid(key + " must name " + clock + " hours, not " + given.size());
+        }
+        return given.toArray(String[]::new);
+    }
+
+    private Phrase[] minutePhrases(String[] numbers, int clock) {
+        String[] patterns = new String[MINUTES_PER_HOUR];
+        String[] sources = new String[MINUTES_PER_HOUR];
+        int[] precedence = new int[MINUTES_PER_HOUR];
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.startsWith("minute.")) {
+                continue;
+            }
+            String spec = key.substring("minute.".length());
+            int from;
+            int to;
+            int step = 1;
+            int rank;
+            Matcher range = MINUTE_RANGE.matcher(spec);
+            if (spec.equals("*")) {
+                from = 0;
+                to = MINUTES_PER_HOUR - 1;
+                rank = 1;
+            } else if (range.matches()) {
+                from = Integer.parseInt(range.group(1));
+                to = Integer.parseInt(range.group(2));
+                step = range.group(3) != null ? Integer.parseInt(range.group(3)) : 1;
+                rank = 2;
+            } else if (spec.chars().allMatch(Character::isDigit) && !spec.isEmpty()) {
+                from = to = Integer.parseInt(spec);
+                rank = 3;
+            } else {
+                throw invalid("'" + key + "' is not minute.<m>, minute.<from>-<to>[/<step>] or minute.*");
+            }
+            if (from > to || to >= MINUTES_PER_HOUR || step < 1) {
+                throw invalid("'" + key + "' is not a range of minutes within the hour");
+            }
+            for (int minute = from; minute <= to; minute += step) {
+                if (precedence[minute] == rank) {
+                    throw invalid("minute " + minute + " is matched by both '" + sources[minute] + "' and '" + key + "'");
+                }
+                if (precedence[minute] < rank) {
+                    precedence[minute] = rank;
+                    patterns[minute] = properties.getProperty(key).trim();
+                    sources[minute] = key;
+                }
+            }
+        }
+        Phrase[] phrases = new Phrase[MINUTES_PER_HOUR];
+        for (int minute = 0; minute < MINUTES_PER_HOUR; minute++) {
+            if (patterns[minute] == null) {
+                throw invalid("no phrase for minute " + minute + "; add minute." + minute + " or minute.*");
+            }
+            phrases[minute] = new Phrase(patterns[minute], numbers, clock);
+        }
+        return phrases;
+    }
+
+    private List<String> list(String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return null;
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : value.split(",", -1)) {
+            words.add(word.trim());
+        }
+        return words;
+    }
+
+    private IllegalStateException invalid(String problem) {
+        return new IllegalStateException("Locale rules '" + name + "': " + problem);
+    }
+
+    /** One phrase pattern, split once into literal text and the word lists its placeholders draw from. */
+    private final class Phrase {
+
+        private final List<String> literals = new ArrayList<>();
+        private final List<Slot> slots = new ArrayList<>();
+
+        Phrase(String pattern, String[] numbers, int clock) {
+            Matcher placeholder = PLACEHOLDER.matcher(pattern);
+            int end = 0;
+            while (placeholder.find()) {
+                literals.add(pattern.substring(end, placeholder.start()));
+                String form = placeholder.group(2);
+                slots.add(switch (placeholder.group(1)) {
+                    case "hour" -> new Slot(hourWords(form, numbers, clock), false, clock);
+                    case "next" -> new Slot(hourWords(form, numbers, clock), true, clock);
+                    case "minute" -> form == null ? new Slot(numbers, false, 0) : null;
+                    case "to" -> form == null ? new Slot(numbers, true, 0) : null;
+                    default -> null;
+                });
+                if (slots.get(slots.size() - 1) == null) {
+                    throw invalid("unknown placeholder " + placeholder.group() + " in '" + pattern + "'");
+                }
+                end = placeholder.end();
+            }
+            String tail = pattern.substring(end);
+            if (tail.indexOf('{') >= 0) {
+                throw invalid("unknown placeholder in '" + pattern + "'");
+            }
+            literals.add(tail);
+        }
+
+        String render(int hour24, int minute) {
+            StringBuilder phrase = new StringBuilder(literals.get(0));
+            for (int i = 0; i < slots.size(); i++) {
+                Slot slot = slots.get(i);
+                if (minute == 0 && slot.clock() == 0 && slot.ahead()) {
+                    throw invalid("{to} is used at minute 0, where no minutes are left");
+                }
+                phrase.append(slot.word(hour24, minute)).append(literals.get(i + 1));
+            }
+            return phrase.toString();
+        }
+    }
+
+    /**
+     * A placeholder: an hour word ({@code clock} 12 or 24, {@code ahead} for the next hour) or, with {@code clock}
+     * 0, a minute word ({@code ahead} for the minutes left in the hour).
+     */
+    private record Slot(String[] words, boolean ahead, int clock) {
+
+        String word(int hour24, int minute) {
+            if (clock == 0) {
+                return words[ahead ? MINUTES_PER_HOUR - minute : minute];
+            }
+            int hour = ahead ? (hour24 + 1) % 24 : hour24;
+            return clock == 24 ? words[hour] : words[(hour + 11) % 12];
+        }
+    }
+}
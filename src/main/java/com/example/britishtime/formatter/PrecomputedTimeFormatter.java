@@ -0,0 +1,38 @@
+package com.example.britishtime.formatter;
+
+/**
+ * Table-backed decorator: renders every (hour, minute) pair of the wrapped
+ * formatter once and serves later calls as a single array load.
+ */
+public class PrecomputedTimeFormatter implements TimeFormatterStrategy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final SpokenLocale locale;
+    private final String[] table = new String[MINUTES_PER_DAY];
+
+    public PrecomputedTimeFormatter(TimeFormatterStrategy delegate) {
+        this.locale = delegate.locale();
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            table[minuteOfDay] = delegate.format(minuteOfDay / 60, minuteOfDay % 60);
+        }
+    }
+
+    @Override
+    public String format(int hour24, int minute) {
+        if (hour24 < 0 || hour24 > 23 || minute < 0 || minute > 59) {
+            throw new IllegalArgumentException("time out of range");
+        }
+        return table[hour24 * 60 + minute];
+    }
+
+    @Override
+    public SpokenLocale locale() {
+        return locale;
+    }
+
+    @Override
+    public String formatMinuteOfDay(int minuteOfDay) {
+        return table[minuteOfDay];
+    }
+}
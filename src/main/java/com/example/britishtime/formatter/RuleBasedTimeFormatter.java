@@ -0,0 +1,38 @@
+package com.example.britishtime.formatter;
+
+/**
+ * Formatter for a locale declared as data: its {@link LocaleRules} are compiled into a 1440-entry phrase table once,
+ * when the formatter is built, so formatting is a range check and an array load whatever the locale says.
+ */
+public class RuleBasedTimeFormatter implements TimeFormatterStrategy {
+
+    private final SpokenLocale locale;
+    private final String[] table;
+
+    public RuleBasedTimeFormatter(SpokenLocale locale) {
+        this(locale, LocaleRules.load(locale));
+    }
+
+    public RuleBasedTimeFormatter(SpokenLocale locale, LocaleRules rules) {
+        this.locale = locale;
+        this.table = rules.compile();
+    }
+
+    @Override
+    public String format(int hour24, int minute) {
+        if (hour24 < 0 || hour24 > 23 || minute < 0 || minute > 59) {
+            throw new IllegalArgumentException("time out of range");
+        }
+        return table[hour24 * 60 + minute];
+    }
+
+    @Override
+    public SpokenLocale locale() {
+        return locale;
+    }
+
+    @Override
+    public String formatMinuteOfDay(int minuteOfDay) {
+        return table[minuteOfDay];
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.britishtime.formatter;
+
+import com.example.britishtime.exception.UnsupportedLocaleException;
+
+/**
+ * Locales a {@link TimeFormatterStrategy} can be registered for. The ordinal doubles as the
+ * index into per-locale tables, so dispatch is a plain array load.
+ */
+public enum SpokenLocale {
+    BRITISH("british", "en-GB", "en"),
+    GERMAN("german", "de-DE", "de"),
+    BRITISH_COLLOQUIAL("british-colloquial", "en-GB-colloquial");
+
+    private static final SpokenLocale[] VALUES = values();
+
+    private final String[] aliases;
+
+    SpokenLocale(String... aliases) {
+        this.aliases = aliases;
+    }
+
+    public String key() {
+        return aliases[0];
+    }
+
+    /**
+     * Resolves a request parameter such as {@code "british"} or {@code "de"}; {@code null} or blank means British.
+     */
+    public static SpokenLocale resolve(String key) {
+        if (key == null || key.isBlank()) {
+            return BRITISH;
+        }
+        for (SpokenLocale locale : VALUES) {
+            for (String alias : locale.aliases) {
+                if (alias.equalsIgnoreCase(key)) {
+                    return locale;
+                }
+            }
+        }
+        throw new UnsupportedLocaleException("Unknown formatter: " + key);
+    }
+}
@@ -1,18 +1,79 @@
 package com.example.britishtime.formatter;
 
+import com.example.britishtime.exception.UnsupportedLocaleException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
- * Simple factory for formatters. Extensible to other locales.
+ * Registry of formatters, one per {@link SpokenLocale}. Every locale that ships a {@link LocaleRules} file gets a
+ * {@link RuleBasedTimeFormatter}, so adding a locale or a regional variant takes an enum constant and a rules file.
+ * A {@link TimeFormatterStrategy} bean replaces the rules of its locale; hand-written strategies are built once and,
+ * unless disabled, served from a precomputed table.
  */
 @Component
 public class TimeFormatterFactory {
 
+    private final TimeFormatterStrategy[] formatters = new TimeFormatterStrategy[SpokenLocale.values().length];
+    private final List<SpokenLocale> locales;
+
+    public TimeFormatterFactory() {
+        this(withDeclaredLocales(List.of()), true);
+    }
+
+    @Autowired
+    public TimeFormatterFactory(ObjectProvider<TimeFormatterStrategy> strategies,
+                                @Value("${spoken-time.formatter.precomputed:true}") boolean precomputed) {
+        this(withDeclaredLocales(strategies.orderedStream().toList()), precomputed);
+    }
+
+    /** Registers exactly {@code strategies}. */
+    public TimeFormatterFactory(List<TimeFormatterStrategy> strategies, boolean precomputed) {
+        List<SpokenLocale> registered = new ArrayList<>();
+        for (TimeFormatterStrategy strategy : strategies) {
+            int slot = strategy.locale().ordinal();
+            if (formatters[slot] != null) {
+                throw new IllegalStateException("Duplicate formatter for locale " + strategy.locale());
+            }
+            formatters[slot] = precomputed && !(strategy instanceof RuleBasedTimeFormatter)
+                    ? new PrecomputedTimeFormatter(strategy)
+                    : strategy;
+            registered.add(strategy.locale());
+        }
+        Collections.sort(registered);
+        this.locales = List.copyOf(registered);
+    }
+
+    /** {@code strategies} plus a {@link RuleBasedTimeFormatter} for every other locale that ships a rules file. */
+    static List<TimeFormatterStrategy> withDeclaredLocales(List<TimeFormatterStrategy> strategies) {
+        List<TimeFormatterStrategy> all = new ArrayList<>(strategies);
+        for (SpokenLocale locale : SpokenLocale.values()) {
+            if (strategies.stream().noneMatch(strategy -> strategy.locale() == locale) && LocaleRules.exists(locale)) {
+                all.add(new RuleBasedTimeFormatter(locale));
+            }
+        }
+        return all;
+    }
+
     public TimeFormatterStrategy getFormatter(String key) {
-        if (key == null || key.isBlank() || key.equalsIgnoreCase("british")) {
-            return new BritishTimeFormatter();
+        return getFormatter(SpokenLocale.resolve(key));
+    }
+
+    public TimeFormatterStrategy getFormatter(SpokenLocale locale) {
+        TimeFormatterStrategy formatter = formatters[locale.ordinal()];
+        if (formatter == null) {
+            throw new UnsupportedLocaleException("No formatter registered for " + locale.key());
         }
-        // Future: other locale implementations
-        throw new IllegalArgumentException("Unknown formatter: " + key);
+        return formatter;
+    }
+
+    /** Locales with a registered formatter, in {@link SpokenLocale} order. */
+    public List<SpokenLocale> getLocales() {
+        return locales;
     }
 }
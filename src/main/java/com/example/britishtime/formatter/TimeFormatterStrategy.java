@@ -2,4 +2,10 @@ package com.example.britishtime.formatter;
 
 public interface TimeFormatterStrategy {
     String format(int hour24, int minute);
+
+    SpokenLocale locale();
+
+    default String formatMinuteOfDay(int minuteOfDay) {
+        return format(minuteOfDay / 60, minuteOfDay % 60);
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.britishtime.metrics;
+
+/**
+ * Bulk endpoints whose request sizes are recorded as {@code spoken.time.batch.size}, one pre-registered summary
+ * each; {@link #tag()} is the {@code endpoint} tag value.
+ */
+public enum BatchEndpoint {
+    BATCH("batch"),
+    REVERSE_BATCH("reverse-batch"),
+    INSTANT_BATCH("instant-batch"),
+    INSTANT_UPLOAD("instant-upload"),
+    UPLOAD("upload"),
+    UPLOAD_DICTIONARY("upload-dictionary"),
+    UPLOAD_STREAM("upload-stream"),
+    UPLOAD_BINARY("upload-binary"),
+    RANGE("range"),
+    JOB("job");
+
+    private final String tag;
+
+    BatchEndpoint(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.britishtime.metrics;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.service.TimeParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Application meters for the conversion hot paths. Per-call meters are registered up front and
+ * held in arrays indexed by locale ordinal, error code or {@link BatchEndpoint}, so recording never does a
+ * registry lookup. Per-endpoint latency comes from Spring's {@code http.server.requests} timer.
+ *
+ * <p>Distributions publish histogram buckets rather than client-side percentiles, so quantiles can be
+ * aggregated across instances with {@code histogram_quantile}.
+ */
+@Component
+public class SpokenTimeMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter[] conversions = new Counter[SpokenLocale.values().length];
+    private final Counter[] rejections = new Counter[TimeParser.ERROR_COUNT];
+    private final Counter instantRejections;
+    private final DistributionSummary[] batchSizes = new DistributionSummary[BatchEndpoint.values().length];
+    private final Timer chunkTimer;
+
+    public SpokenTimeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (SpokenLocale locale : SpokenLocale.values()) {
+            conversions[locale.ordinal()] = Counter.builder("spoken.time.conversions")
+                    .description("Times converted, per output locale")
+                    .tag("locale", locale.key())
+                    .register(registry);
+        }
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = Counter.builder("spoken.time.rejections")
+                    .description("Invalid time inputs, per validation error")
+                    .tag("reason", TimeParser.reason(-i - 1))
+                    .register(registry);
+        }
+        instantRejections = Counter.builder("spoken.time.rejections")
+                .description("Invalid time inputs, per validation error")
+                .tag("reason", "bad_instant")
+                .register(registry);
+        chunkTimer = Timer.builder("spoken.time.batch.chunk")
+                .description("Parse and format time for one batch-engine chunk, excluding I/O and serialisation")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+        for (BatchEndpoint endpoint : BatchEndpoint.values()) {
+            batchSizes[endpoint.ordinal()] = DistributionSummary.builder("spoken.time.batch.size")
+                    .description("Items per bulk request")
+                    .baseUnit("items")
+                    .tag("endpoint", endpoint.tag())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(1e9)
+                    .register(registry);
+        }
+    }
+
+    /** Meters that record nothing, for code constructed outside the Spring context. */
+    public static SpokenTimeMetrics noop() {
+        return new SpokenTimeMetrics(new CompositeMeterRegistry());
+    }
+
+    public void converted(SpokenLocale locale) {
+        conversions[locale.ordinal()].increment();
+    }
+
+    public void rejected(int errorCode) {
+        rejections[-errorCode - 1].increment();
+    }
+
+    /** An instant that is neither epoch milliseconds nor ISO-8601. */
+    public void rejectedInstant() {
+        instantRejections.increment();
+    }
+
+    public void recordChunk(long nanos) {
+        chunkTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBatchSize(BatchEndpoint endpoint, int items) {
+        batchSizes[endpoint.ordinal()].record(items);
+    }
+
+    /**
+     * Gauges for one admission-control class, read at scrape time, and the counter of requests it refuses, which
+     * the caller holds on to.
+     */
+    public Counter admission(String endpointClass, IntSupplier limit, IntSupplier inFlight, IntSupplier queued) {
+        Gauge.builder("spoken.time.admission.limit", limit::getAsInt)
+                .description("Current concurrency limit, per endpoint class")
+                .tag("class", endpointClass)
+                .register(registry);
+        Gauge.builder("spoken.time.admission.in.flight", inFlight::getAsInt)
+                .description("Requests holding a permit, per endpoint class")
+                .tag("class", endpointClass)
+                .register(registry);
+        Gauge.builder("spoken.time.admission.queued", queued::getAsInt)
+                .description("Requests waiting for a permit, per endpoint class")
+                .tag("class", endpointClass)
+                .register(registry);
+        return Counter.builder("spoken.time.admission.rejections")
+                .description("Requests refused with 429, per endpoint class")
+                .tag("class", endpointClass)
+                .register(registry);
+    }
+
+    /** Gauge of open {@code /now} stream subscriptions, read at scrape time. */
+    public void nowSubscribers(IntSupplier subscribers) {
+        Gauge.builder("spoken.time.now.subscribers", subscribers::getAsInt)
+                .description("Open current-time stream subscriptions")
+                .register(registry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.britishtime.model;
+
+/**
+ * Result encoding of the binary bulk endpoint. Both are big-endian and carry {@code 0xFFFF} for an
+ * input value that is not a minute of day.
+ */
+public enum BinaryEncoding {
+    /** Per value: unsigned 16-bit byte length, then the spoken time as UTF-8. */
+    TEXT,
+    /** Per value: unsigned 16-bit index into the locale's phrase table. */
+    IDS
+}
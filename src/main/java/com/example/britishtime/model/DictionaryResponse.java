@@ -0,0 +1,9 @@
+package com.example.britishtime.model;
+
+import java.util.List;
+
+/**
+ * Dictionary-encoded conversion results: each distinct response once, and for every input cell, in order,
+ * the index of its response in {@code dictionary}.
+ */
+public record DictionaryResponse(List<TimeResponse> dictionary, int[] indices) {}
@@ -0,0 +1,15 @@
+package com.example.britishtime.model;
+
+/**
+ * Lifecycle of a conversion job: {@code QUEUED → RUNNING → SUCCEEDED | FAILED}.
+ */
+public enum JobState {
+    /** Accepted and waiting for a worker. */
+    QUEUED,
+    /** Being converted; {@code progress} grows towards 1. */
+    RUNNING,
+    /** Finished; the result can be downloaded. An {@code abort} job that stopped at an invalid cell also ends here. */
+    SUCCEEDED,
+    /** Could not be converted; there is no result. */
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.example.britishtime.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Snapshot of a conversion job. {@code progress} is the fraction of the input read so far; the counts and
+ * {@code aborted} are set once the job has succeeded, {@code error} once it has failed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobStatus(String id, JobState state, double progress, Long cells, Long invalid, Boolean aborted,
+                        String error) {}
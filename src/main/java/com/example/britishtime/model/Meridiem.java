@@ -0,0 +1,11 @@
+package com.example.britishtime.model;
+
+/**
+ * Which half of the day a 12-hour spoken phrase refers to.
+ */
+public enum Meridiem {
+    /** Before noon: "quarter to ten" is 09:45. */
+    AM,
+    /** Noon onwards: "quarter to ten" is 21:45. */
+    PM
+}
@@ -0,0 +1,24 @@
+package com.example.britishtime.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of converting one spoken phrase back to {@code HH:mm}: either {@code time} or {@code error} is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PhraseResult(String phrase, String time, String error) {
+
+    public static PhraseResult of(String phrase, String time) {
+        return new PhraseResult(phrase, time, null);
+    }
+
+    public static PhraseResult failed(String phrase, String error) {
+        return new PhraseResult(phrase, null, error);
+    }
+
+    @JsonIgnore
+    public boolean isError() {
+        return error != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.britishtime.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One item of a bulk request: either an {@code "HH:mm"} string or an {@code {"hour": 9, "minute": 45}} object.
+ */
+public record TimeInput(String time, Integer hour, Integer minute) {
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static TimeInput of(String time) {
+        return new TimeInput(time, null, null);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public static TimeInput of(@JsonProperty("hour") Integer hour, @JsonProperty("minute") Integer minute) {
+        return new TimeInput(null, hour, minute);
+    }
+}
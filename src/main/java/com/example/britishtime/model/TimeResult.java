@@ -0,0 +1,24 @@
+package com.example.britishtime.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Per-item outcome of a bulk conversion: either {@code spoken} or {@code error} is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TimeResult(String original, String spoken, String error) {
+
+    public static TimeResult of(TimeResponse response) {
+        return new TimeResult(response.original(), response.spoken(), null);
+    }
+
+    public static TimeResult failed(String original, String error) {
+        return new TimeResult(original, null, error);
+    }
+
+    @JsonIgnore
+    public boolean isError() {
+        return error != null;
+    }
+}
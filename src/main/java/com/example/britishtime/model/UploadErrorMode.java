@@ -0,0 +1,11 @@
+package com.example.britishtime.model;
+
+/**
+ * How a streaming upload reacts to a cell that is not a valid time.
+ */
+public enum UploadErrorMode {
+    /** Emit one error record for the bad cell and end the stream. */
+    ABORT,
+    /** Emit an error record for the bad cell and carry on with the next one. */
+    INLINE
+}
@@ -0,0 +1,241 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.InvalidFileException;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Converts large CSV inputs in parallel. The input is cut into chunks on line boundaries, or on
+ * cell boundaries when a line is longer than a chunk, chunks are converted on a bounded fork-join
+ * pool, and results are handed to the sink on the calling thread in input order. At most
+ * {@code 2 * parallelism} chunks are in flight and a chunk holds at most {@code 2 * chunk-size}
+ * bytes, so memory use is bounded regardless of input size.
+ */
+@Component
+public class BatchConversionEngine {
+
+    private final SpokenTimeMetrics metrics;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxChunkSize;
+    private final int maxInFlight;
+
+    public BatchConversionEngine(int chunkSize, int parallelism) {
+        this(chunkSize, parallelism, SpokenTimeMetrics.noop());
+    }
+
+    @Autowired
+    public BatchConversionEngine(@Value("${spoken-time.batch.chunk-size:262144}") int chunkSize,
+                                 @Value("${spoken-time.batch.parallelism:0}") int parallelism,
+                                 SpokenTimeMetrics metrics) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.metrics = metrics;
+        this.pool = new ForkJoinPool(threads);
+        this.chunkSize = chunkSize;
+        this.maxChunkSize = (int) Math.min(2L * chunkSize, Integer.MAX_VALUE - 8);
+        this.maxInFlight = threads * 2;
+    }
+
+    /**
+     * Applies {@code converter} to every non-empty, trimmed cell of {@code in} and passes the results
+     * to {@code sink} in input order. Cells are split by a {@link CsvCellTokenizer} and handed to the converter as
+     * byte ranges of the chunk, so no line or cell is decoded unless the converter does so. Exceptions thrown by
+     * the converter or the sink stop the conversion and are rethrown to the caller.
+     *
+     * @return the number of cells converted
+     * @throws InvalidFileException if {@code 2 * chunk-size} bytes hold no line or cell break
+     */
+    public <T> int convertBytes(InputStream in, CsvCellTokenizer.CellConverter<T> converter, Consumer<? super T> sink)
+            throws IOException {
+        return run(in, (chunk, length) -> convertChunk(chunk, length, converter), results -> {
+            results.forEach(sink);
+            return results.size();
+        });
+    }
+
+    /**
+     * Like {@link #convertBytes}, for converters to a primitive {@code int}: each chunk's results are held in an
+     * {@code int[]}, so nothing is boxed per cell.
+     */
+    public int convertInts(InputStream in, CsvCellTokenizer.IntCellConverter converter, IntConsumer sink)
+            throws IOException {
+        return run(in, (chunk, length) -> convertIntChunk(chunk, length, converter), results -> {
+            for (int result : results) {
+                sink.accept(result);
+            }
+            return results.length;
+        });
+    }
+
+    /** Converts one chunk, of {@code length} bytes at the start of {@code chunk}, into its results. */
+    @FunctionalInterface
+    private interface ChunkConverter<R> {
+        R convert(byte[] chunk, int length);
+    }
+
+    /**
+     * Cuts {@code in} into chunks, converts them on the pool and hands each chunk's results, in input order, to
+     * {@code deliver}, which returns the number of cells they hold.
+     */
+    private <R> int run(InputStream in, ChunkConverter<R> convert, ToIntFunction<R> deliver) throws IOException {
+        ArrayDeque<Future<R>> inFlight = new ArrayDeque<>();
+        byte[] buffer = new byte[chunkSize];
+        int filled = 0;
+        int cells = 0;
+        boolean first = true;
+        try {
+            while (true) {
+                int read = in.readNBytes(buffer, filled, buffer.length - filled);
+                filled += read;
+                boolean eof = filled < buffer.length;
+                int cut = eof ? filled : lastBreak(buffer, filled) + 1;
+                if (cut == 0 && !eof) {
+                    // a single cell longer than the buffer
+                    if (buffer.length >= maxChunkSize) {
+                        throw new InvalidFileException("No line or cell break within " + maxChunkSize + " bytes");
+                    }
+                    buffer = Arrays.copyOf(buffer, maxChunkSize);
+                    continue;
+                }
+                if (first && eof) {
+                    // small input: not worth a round trip through the pool
+                    return deliver.applyAsInt(convert.convert(buffer, cut));
+                }
+                first = false;
+
+                if (cut > 0) {
+                    byte[] chunk = Arrays.copyOf(buffer, cut);
+                    inFlight.add(pool.submit(() -> convert.convert(chunk, chunk.length)));
+                    System.arraycopy(buffer, cut, buffer, 0, filled - cut);
+                    filled -= cut;
+                }
+
+                while (inFlight.size() >= maxInFlight || (eof && !inFlight.isEmpty())) {
+                    cells += deliver.applyAsInt(await(inFlight.poll()));
+                }
+                if (eof) {
+                    return cells;
+                }
+            }
+        } finally {
+            inFlight.forEach(pending -> pending.cancel(true));
+        }
+    }
+
+    /** Like {@link #convertBytes}, for converters of decoded cells. */
+    public <T> int convert(InputStream in, Function<String, T> converter, Consumer<? super T> sink) throws IOException {
+        return convertBytes(in, (bytes, offset, length) ->
+                converter.apply(new String(bytes, offset, length, StandardCharsets.UTF_8)), sink);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static <R> R await(Future<R> pending) {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("batch conversion interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("batch conversion failed", cause);
+        }
+    }
+
+    /**
+     * The last {@code '\n'} of the buffer or, for a single long line or a CR-only file, the last {@code '\r'} or
+     * unquoted comma; -1 if there is none. The buffer always starts at a cell boundary, so the quoting state of the
+     * forward scan matches the tokenizer's.
+     */
+    private static int lastBreak(byte[] buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        int last = -1;
+        boolean quoted = false;
+        for (int i = 0; i < length; i++) {
+            byte b = buffer[i];
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\r') {
+                quoted = false;
+                last = i;
+            } else if (b == ',' && !quoted) {
+                last = i;
+            }
+        }
+        return last;
+    }
+
+    private <T> List<T> convertChunk(byte[] chunk, int length, CsvCellTokenizer.CellConverter<T> converter) {
+        long start = System.nanoTime();
+        List<T> results = new ArrayList<>();
+        new CsvCellTokenizer().tokenize(chunk, 0, length, CsvCellTokenizer.converting(converter, results::add));
+        metrics.recordChunk(System.nanoTime() - start);
+        return results;
+    }
+
+    private int[] convertIntChunk(byte[] chunk, int length, CsvCellTokenizer.IntCellConverter converter) {
+        long start = System.nanoTime();
+        IntResults results = new IntResults(converter);
+        new CsvCellTokenizer().tokenize(chunk, 0, length, results);
+        metrics.recordChunk(System.nanoTime() - start);
+        return results.toArray();
+    }
+
+    /** The results of one chunk for an {@link CsvCellTokenizer.IntCellConverter}, in a growing {@code int[]}. */
+    private static final class IntResults implements CsvCellTokenizer.CellHandler {
+
+        private final CsvCellTokenizer.IntCellConverter converter;
+        private int[] values = new int[256];
+        private int size;
+
+        IntResults(CsvCellTokenizer.IntCellConverter converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        public void cell(byte[] bytes, int offset, int length) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = converter.convert(bytes, offset, length);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.UnsupportedLocaleException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.model.BinaryEncoding;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Binary bulk conversion for callers that already hold times as minute-of-day integers.
+ *
+ * <p>Input is a sequence of big-endian unsigned 16-bit minutes of day. Each value produces one result in
+ * the requested {@link BinaryEncoding}: a length-prefixed UTF-8 phrase, or a 16-bit id into the locale's
+ * {@link PhraseTable}. Values of 1440 and above, and a trailing odd byte, produce {@link #INVALID}.
+ * Every result is a pre-encoded byte sequence, so conversion is a table lookup and a copy per value.
+ */
+@Component
+public class BinaryTimeCodec {
+
+    /** Length or id marking a value that is not a minute of day. */
+    public static final int INVALID = 0xFFFF;
+    private static final byte[] INVALID_RESULT = {(byte) 0xFF, (byte) 0xFF};
+    private static final int READ_SIZE = 8192;
+
+    /**
+     * Distinct phrases of one locale, encoded as a big-endian 16-bit count followed by that many
+     * length-prefixed UTF-8 phrases; the id of a phrase is its position. Stable for a given formatter.
+     */
+    public record PhraseTable(byte[] bytes, String etag) {}
+
+    private final PhraseTable[] tables = new PhraseTable[SpokenLocale.values().length];
+    // [locale][encoding][minute of day] -> encoded result
+    private final byte[][][][] results = new byte[SpokenLocale.values().length][][][];
+
+    public BinaryTimeCodec(TimeService timeService) {
+        for (SpokenLocale locale : timeService.getLocales()) {
+            Map<String, Integer> ids = new LinkedHashMap<>();
+            byte[][] text = new byte[TimeParser.MINUTES_PER_DAY][];
+            byte[][] idResults = new byte[TimeParser.MINUTES_PER_DAY][];
+            for (int minuteOfDay = 0; minuteOfDay < TimeParser.MINUTES_PER_DAY; minuteOfDay++) {
+                String spoken = timeService.response(minuteOfDay, locale).spoken();
+                text[minuteOfDay] = lengthPrefixed(spoken);
+                idResults[minuteOfDay] = uint16(ids.computeIfAbsent(spoken, phrase -> ids.size()));
+            }
+            byte[][][] byEncoding = new byte[BinaryEncoding.values().length][][];
+            byEncoding[BinaryEncoding.TEXT.ordinal()] = text;
+            byEncoding[BinaryEncoding.IDS.ordinal()] = idResults;
+            results[locale.ordinal()] = byEncoding;
+            tables[locale.ordinal()] = phraseTable(ids);
+        }
+    }
+
+    public PhraseTable phraseTable(SpokenLocale locale) {
+        PhraseTable table = tables[locale.ordinal()];
+        if (table == null) {
+            throw new UnsupportedLocaleException("No formatter registered for " + locale.key());
+        }
+        return table;
+    }
+
+    /** Starts converting one input stream; the returned encoder is not thread-safe. */
+    public Encoder encoder(SpokenLocale locale, BinaryEncoding encoding) {
+        phraseTable(locale);
+        return new Encoder(results[locale.ordinal()][encoding.ordinal()]);
+    }
+
+    /** Converts all of {@code in} to {@code out} and returns the number of values. */
+    public long convert(InputStream in, OutputStream out, SpokenLocale locale, BinaryEncoding encoding) throws IOException {
+        Encoder encoder = encoder(locale, encoding);
+        byte[] buffer = new byte[READ_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            encoder.feed(buffer, 0, read, out);
+        }
+        encoder.finish(out);
+        return encoder.values();
+    }
+
+    /**
+     * Converts input that arrives in arbitrary pieces; a value split across two {@link #feed} calls is
+     * carried over. Each call writes its results to the sink in one piece.
+     */
+    public static final class Encoder {
+
+        private final byte[][] results;
+        private byte[] output = new byte[READ_SIZE];
+        private int carry = -1;
+        private long values;
+
+        private Encoder(byte[][] results) {
+            this.results = results;
+        }
+
+        public void feed(byte[] bytes, int offset, int length, OutputStream out) throws IOException {
+            int end = offset + length;
+            int i = offset;
+            int written = 0;
+            if (carry >= 0 && i < end) {
+                written = append(written, result(carry << 8 | bytes[i++] & 0xFF));
+                carry = -1;
+            }
+            for (; i + 1 < end; i += 2) {
+                written = append(written, result((bytes[i] & 0xFF) << 8 | bytes[i + 1] & 0xFF));
+            }
+            if (i < end) {
+                carry = bytes[i] & 0xFF;
+            }
+            out.write(output, 0, written);
+        }
+
+        /** Writes {@link #INVALID} for a trailing odd byte, if any. */
+        public void finish(OutputStream out) throws IOException {
+            if (carry >= 0) {
+                carry = -1;
+                values++;
+                out.write(INVALID_RESULT);
+            }
+        }
+
+        /** Number of values converted so far. */
+        public long values() {
+            return values;
+        }
+
+        private byte[] result(int minuteOfDay) {
+            values++;
+            return minuteOfDay < results.length ? results[minuteOfDay] : INVALID_RESULT;
+        }
+
+        private int append(int written, byte[] result) {
+            if (written + result.length > output.length) {
+                output = Arrays.copyOf(output, Math.max(output.length * 2, written + result.length));
+            }
+            System.arraycopy(result, 0, output, written, result.length);
+            return written + result.length;
+        }
+    }
+
+    private static PhraseTable phraseTable(Map<String, Integer> ids) {
+        ByteArrayOutputStream table = new ByteArrayOutputStream();
+        table.writeBytes(uint16(ids.size()));
+        for (String phrase : ids.keySet()) {
+            table.writeBytes(lengthPrefixed(phrase));
+        }
+        byte[] bytes = table.toByteArray();
+        return new PhraseTable(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+    }
+
+    private static byte[] lengthPrefixed(String phrase) {
+        byte[] utf8 = phrase.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new byte[utf8.length + 2];
+        encoded[0] = (byte) (utf8.length >>> 8);
+        encoded[1] = (byte) utf8.length;
+        System.arraycopy(utf8, 0, encoded, 2, utf8.length);
+        return encoded;
+    }
+
+    private static byte[] uint16(int value) {
+        return new byte[] {(byte) (value >>> 8), (byte) value};
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.InvalidFileException;
+import com.example.britishtime.exception.JobNotFinishedException;
+import com.example.britishtime.exception.JobQueueFullException;
+import com.example.britishtime.exception.UnknownJobException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.metrics.BatchEndpoint;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.JobState;
+import com.example.britishtime.model.JobStatus;
+import com.example.britishtime.model.UploadErrorMode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous CSV conversions for files too large to convert within one HTTP request.
+ *
+ * <p>An upload is first written to a file in the job directory ({@link #createInput}), then queued
+ * ({@link #submit}). A fixed pool of {@code spoken-time.jobs.workers} threads converts queued jobs with
+ * {@link MappedFileConverter}, so results go straight to an NDJSON file through its bounded output buffer and
+ * heap use does not depend on file sizes or on how many jobs are waiting. At most
+ * {@code spoken-time.jobs.queue-capacity} jobs wait; the executor refuses further jobs, and {@link #submit} turns that
+ * into a {@link JobQueueFullException} and deletes the upload. Finished jobs and their files are removed
+ * {@code spoken-time.jobs.retention} after they finish.
+ */
+@Service
+public class ConversionJobService {
+
+    static final String EMPTY_FILE_MESSAGE = "file is empty";
+    static final String QUEUE_FULL_MESSAGE = "conversion job queue is full, retry later";
+
+    private final MappedFileConverter converter;
+    private final SpokenTimeMetrics metrics;
+    private final ThreadPoolExecutor executor;
+    private final Path directory;
+    private final boolean ownsDirectory;
+    private final Duration retention;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Job> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ConversionJobService(MappedFileConverter converter,
+                                SpokenTimeMetrics metrics,
+                                @Value("${spoken-time.jobs.workers:2}") int workers,
+                                @Value("${spoken-time.jobs.queue-capacity:32}") int queueCapacity,
+                                @Value("${spoken-time.jobs.directory:}") String directory,
+                                @Value("${spoken-time.jobs.retention:1h}") Duration retention) throws IOException {
+        this(converter, metrics, workers, queueCapacity,
+                directory.isBlank() ? null : Path.of(directory), retention, Clock.systemUTC());
+    }
+
+    ConversionJobService(MappedFileConverter converter, SpokenTimeMetrics metrics, int workers, int queueCapacity,
+                         Path directory, Duration retention, Clock clock) throws IOException {
+        if (workers <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("job workers and queue capacity must be positive");
+        }
+        this.converter = converter;
+        this.metrics = metrics;
+        this.ownsDirectory = directory == null;
+        this.directory = ownsDirectory ? Files.createTempDirectory("spoken-time-jobs") : Files.createDirectories(directory);
+        this.retention = retention;
+        this.clock = clock;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), task -> {
+                    Thread thread = new Thread(task, "spoken-time-job-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /** Creates the file an upload is written to before {@link #submit}. */
+    public Path createInput() throws IOException {
+        purgeExpired();
+        return Files.createTempFile(directory, "upload-", ".csv");
+    }
+
+    /**
+     * Queues the conversion of {@code input}, a file from {@link #createInput}. The job owns the file from
+     * here on, including when this method throws. Whether the queue has room is decided by the executor alone,
+     * so concurrent submissions cannot overfill it; a refused job fails with {@link JobQueueFullException}.
+     */
+    public JobStatus submit(Path input, SpokenLocale locale, UploadErrorMode onError) throws IOException {
+        long size;
+        try {
+            size = Files.size(input);
+        } catch (IOException e) {
+            discard(input);
+            throw e;
+        }
+        if (size == 0) {
+            discard(input);
+            throw new InvalidFileException(EMPTY_FILE_MESSAGE);
+        }
+        String id = UUID.randomUUID().toString();
+        Job job = new Job(id, input, directory.resolve(id + ".ndjson"), locale, onError, size);
+        jobs.put(id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            discard(input);
+            throw new JobQueueFullException(QUEUE_FULL_MESSAGE);
+        }
+        return job.status();
+    }
+
+    /** Deletes an input from {@link #createInput} that will not be submitted. */
+    public void discard(Path input) {
+        try {
+            Files.deleteIfExists(input);
+        } catch (IOException e) {
+            // left for the directory cleanup on shutdown
+        }
+    }
+
+    public JobStatus status(String id) {
+        return job(id).status();
+    }
+
+    /** The NDJSON output of a job that has {@link JobState#SUCCEEDED}. */
+    public Path result(String id) {
+        Job job = job(id);
+        if (job.state != JobState.SUCCEEDED) {
+            throw new JobNotFinishedException("job " + id + " has no result, state is " + job.state);
+        }
+        return job.output;
+    }
+
+    private Job job(String id) {
+        purgeExpired();
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new UnknownJobException("Unknown job: " + id);
+        }
+        return job;
+    }
+
+    private void run(Job job) {
+        job.state = JobState.RUNNING;
+        JobState outcome;
+        try {
+            MappedFileConverter.Summary summary = converter.convert(job.input, job.output, job.locale, job.onError,
+                    bytesRead -> job.bytesRead = bytesRead);
+            job.summary = summary;
+            outcome = JobState.SUCCEEDED;
+            metrics.recordBatchSize(BatchEndpoint.JOB, (int) Math.min(summary.cells(), Integer.MAX_VALUE));
+        } catch (IOException | RuntimeException e) {
+            job.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            outcome = JobState.FAILED;
+            discard(job.output);
+        }
+        discard(job.input);
+        // the state is published last, so a finished job always has its finish time and outcome
+        job.finishedAt = clock.instant();
+        job.state = outcome;
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = clock.instant().minus(retention);
+        jobs.values().removeIf(job -> {
+            Instant finishedAt = job.finishedAt;
+            if (finishedAt == null || finishedAt.isAfter(cutoff)) {
+                return false;
+            }
+            discard(job.output);
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        for (Job job : jobs.values()) {
+            discard(job.input);
+            discard(job.output);
+        }
+        if (ownsDirectory) {
+            discard(directory);
+        }
+    }
+
+    private static final class Job {
+
+        final String id;
+        final Path input;
+        final Path output;
+        final SpokenLocale locale;
+        final UploadErrorMode onError;
+        final long size;
+        volatile JobState state = JobState.QUEUED;
+        volatile long bytesRead;
+        volatile MappedFileConverter.Summary summary;
+        volatile String error;
+        volatile Instant finishedAt;
+
+        Job(String id, Path input, Path output, SpokenLocale locale, UploadErrorMode onError, long size) {
+            this.id = id;
+            this.input = input;
+            this.output = output;
+            this.locale = locale;
+            this.onError = onError;
+            this.size = size;
+        }
+
+        JobStatus status() {
+            JobState current = state;
+            return switch (current) {
+                case SUCCEEDED -> new JobStatus(id, current, 1.0, summary.cells(), summary.errors(),
+                        summary.aborted(), null);
+                case FAILED -> new JobStatus(id, current, (double) bytesRead / size, null, null, null, error);
+                default -> new JobStatus(id, current, (double) bytesRead / size, null, null, null, null);
+            };
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.InvalidFileException;
+
+import java.util.function.Consumer;
+
+/**
+ * Incremental byte-level CSV cell splitter for input that arrives in arbitrary pieces.
+ *
+ * <p>Cells are separated by commas and line breaks; every non-empty cell is handed to the
+ * {@link CellHandler} with surrounding whitespace removed. A cell may be enclosed in double quotes, as spreadsheet
+ * exports do: a comma inside the quotes does not end it, and one enclosing pair of quotes is removed along with the
+ * whitespace on either side of it. A line break always ends a cell, so an unbalanced quote affects only its own line.
+ * Cells that lie wholly inside a fed range are passed as a view of the caller's array; only a cell split across two
+ * {@link #feed} calls is copied into the tokenizer's carry buffer. A valid cell is a few bytes, so the carry never grows
+ * past {@link #MAX_CELL_BYTES}: a longer cell is handed, as its leading bytes, to
+ * {@link CellHandler#oversizedCell}, and the rest of it is skipped up to the next separator. By default that ends the
+ * input with an {@link InvalidFileException}; a handler that streams its results can report the cell and go on.
+ * Not thread-safe: use one instance per input stream.
+ */
+public final class CsvCellTokenizer {
+
+    /** Longest cell accepted, separators excluded and surrounding whitespace included. */
+    public static final int MAX_CELL_BYTES = 256;
+
+    public static final String OVERSIZED_MESSAGE = "Cell longer than " + MAX_CELL_BYTES + " bytes";
+
+    /** Receives one cell; the array range is only valid for the duration of the call. */
+    @FunctionalInterface
+    public interface CellHandler {
+        void cell(byte[] bytes, int offset, int length);
+
+        /** Receives the leading bytes, leading whitespace removed, of a cell longer than {@link #MAX_CELL_BYTES}. */
+        default void oversizedCell(byte[] bytes, int offset, int length) {
+            throw oversized();
+        }
+    }
+
+    /** Converts one cell, given as a range of its UTF-8 bytes, without decoding it first. */
+    @FunctionalInterface
+    public interface CellConverter<T> {
+        T convert(byte[] bytes, int offset, int length);
+
+        /** Converts the leading bytes of a cell longer than {@link #MAX_CELL_BYTES}; by default ends the input. */
+        default T oversized(byte[] bytes, int offset, int length) {
+            throw CsvCellTokenizer.oversized();
+        }
+    }
+
+    /** Like {@link CellConverter}, for results that are a primitive {@code int}, such as a minute of day. */
+    @FunctionalInterface
+    public interface IntCellConverter {
+        int convert(byte[] bytes, int offset, int length);
+    }
+
+    private final byte[] carry = new byte[MAX_CELL_BYTES];
+    private int carryLength;
+    private boolean skipping;
+    private int cells;
+    private boolean quoted;
+
+    /** A handler that passes each cell, oversized ones included, through {@code converter} to {@code sink}. */
+    public static <T> CellHandler converting(CellConverter<T> converter, Consumer<? super T> sink) {
+        return new CellHandler() {
+            @Override
+            public void cell(byte[] bytes, int offset, int length) {
+                sink.accept(converter.convert(bytes, offset, length));
+            }
+
+            @Override
+            public void oversizedCell(byte[] bytes, int offset, int length) {
+                sink.accept(converter.oversized(bytes, offset, length));
+            }
+        };
+    }
+
+    /** Splits {@code bytes[offset, offset + length)}, holding back a trailing partial cell for the next call. */
+    public void feed(byte[] bytes, int offset, int length, CellHandler handler) {
+        int end = offset + length;
+        int start = offset;
+        for (int i = offset; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' || b == '\r' || (b == ',' && !quoted)) {
+                quoted = false;
+                if (skipping) {
+                    skipping = false;
+                } else if (carryLength > 0) {
+                    if (append(bytes, start, i - start, handler)) {
+                        emit(carry, 0, carryLength, handler);
+                        carryLength = 0;
+                    }
+                    skipping = false;
+                } else {
+                    emit(bytes, start, i - start, handler);
+                }
+                start = i + 1;
+            }
+        }
+        if (start < end && !skipping) {
+            append(bytes, start, end - start, handler);
+        }
+    }
+
+    /** Emits the last cell, if the input did not end with a separator. */
+    public void finish(CellHandler handler) {
+        quoted = false;
+        if (skipping) {
+            skipping = false;
+        } else if (carryLength > 0) {
+            emit(carry, 0, carryLength, handler);
+            carryLength = 0;
+        }
+    }
+
+    /** Splits a complete input, such as a chunk cut on a line boundary. */
+    public void tokenize(byte[] bytes, int offset, int length, CellHandler handler) {
+        feed(bytes, offset, length, handler);
+        finish(handler);
+    }
+
+    /** Number of cells emitted so far. */
+    public int cells() {
+        return cells;
+    }
+
+    private void emit(byte[] bytes, int offset, int length, CellHandler handler) {
+        if (length > MAX_CELL_BYTES) {
+            emitOversized(bytes, offset, MAX_CELL_BYTES, handler);
+            return;
+        }
+        int start = offset;
+        int end = offset + length;
+        while (start < end && (bytes[start] & 0xFF) <= ' ') start++;
+        while (end > start && (bytes[end - 1] & 0xFF) <= ' ') end--;
+        if (end - start >= 2 && bytes[start] == '"' && bytes[end - 1] == '"') {
+            start++;
+            end--;
+            while (start < end && (bytes[start] & 0xFF) <= ' ') start++;
+            while (end > start && (bytes[end - 1] & 0xFF) <= ' ') end--;
+        }
+        if (start < end) {
+            cells++;
+            handler.cell(bytes, start, end - start);
+        }
+    }
+
+    private void emitOversized(byte[] bytes, int offset, int length, CellHandler handler) {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && (bytes[start] & 0xFF) <= ' ') start++;
+        cells++;
+        handler.oversizedCell(bytes, start, end - start);
+    }
+
+    /**
+     * Adds to the carry. A cell that would outgrow it is emitted as oversized there and then, and its remaining
+     * bytes are skipped up to the next separator; returns whether the cell is still being carried.
+     */
+    private boolean append(byte[] bytes, int offset, int length, CellHandler handler) {
+        if (carryLength + length <= MAX_CELL_BYTES) {
+            System.arraycopy(bytes, offset, carry, carryLength, length);
+            carryLength += length;
+            return true;
+        }
+        System.arraycopy(bytes, offset, carry, carryLength, MAX_CELL_BYTES - carryLength);
+        carryLength = 0;
+        skipping = true;
+        emitOversized(carry, 0, MAX_CELL_BYTES, handler);
+        return false;
+    }
+
+    private static InvalidFileException oversized() {
+        return new InvalidFileException(OVERSIZED_MESSAGE);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.britishtime.service;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+
+/**
+ * Reads an instant from request text: epoch milliseconds ({@code 1711848600000}) or an ISO-8601 timestamp
+ * with an offset ({@code 2024-03-31T01:30:00Z}, {@code 2024-03-31T02:30:00+01:00}). Epoch milliseconds, the
+ * common case for event streams, are read digit by digit without going through {@code java.time}.
+ */
+final class InstantParser {
+
+    /** Returned for input that is neither form; no valid epoch millisecond is this small. */
+    static final long INVALID = Long.MIN_VALUE;
+    static final String MESSAGE = "instant must be epoch milliseconds or an ISO-8601 timestamp";
+
+    // 18 digits cannot overflow a long
+    private static final int MAX_DIGITS = 18;
+
+    private InstantParser() {
+    }
+
+    static long parse(String text) {
+        if (text == null) {
+            return INVALID;
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        if (start == end) {
+            return INVALID;
+        }
+        boolean negative = text.charAt(start) == '-';
+        int digits = negative ? start + 1 : start;
+        if (digits < end && end - digits <= MAX_DIGITS) {
+            long value = 0;
+            int i = digits;
+            for (; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (i == end) {
+                return negative ? -value : value;
+            }
+        }
+        try {
+            return Instant.parse(text.substring(start, end)).toEpochMilli();
+        } catch (DateTimeException | ArithmeticException e) {
+            return INVALID;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.model.TimeResult;
+import com.example.britishtime.model.UploadErrorMode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+
+/**
+ * Converts a CSV file of times into an NDJSON file, one record per cell, with the same records as the
+ * streaming upload endpoint.
+ *
+ * <p>The input is memory-mapped region by region and tokenised as bytes; no cell is decoded into a
+ * String unless it is invalid. Valid cells are written as one of the 1440 pre-encoded records of the
+ * requested locale, through a large direct output buffer, so throughput is bounded by the disks rather
+ * than by per-line decoding and serialisation.
+ */
+@Component
+public class MappedFileConverter {
+
+    /** Mapped regions must stay below 2 GB; 1 GB keeps the number of remaps low for multi-GB inputs. */
+    static final int DEFAULT_REGION_SIZE = 1 << 30;
+    private static final int WINDOW_SIZE = 64 * 1024;
+
+    private final TimeService timeService;
+    private final ObjectMapper objectMapper;
+    private final int outputBufferSize;
+    private final int regionSize;
+
+    @Autowired
+    public MappedFileConverter(TimeService timeService,
+                               ObjectMapper objectMapper,
+                               @Value("${spoken-time.convert.output-buffer-size:4194304}") int outputBufferSize) {
+        this(timeService, objectMapper, outputBufferSize, DEFAULT_REGION_SIZE);
+    }
+
+    MappedFileConverter(TimeService timeService, ObjectMapper objectMapper, int outputBufferSize, int regionSize) {
+        if (outputBufferSize <= 0) {
+            throw new IllegalArgumentException("output buffer size must be positive");
+        }
+        this.timeService = timeService;
+        this.objectMapper = objectMapper;
+        this.outputBufferSize = outputBufferSize;
+        this.regionSize = regionSize;
+    }
+
+    /** Outcome of one conversion; {@code aborted} is set when {@link UploadErrorMode#ABORT} stopped at an invalid cell. */
+    public record Summary(long cells, long errors, long bytesRead, long bytesWritten, long nanos, boolean aborted) {
+
+        public double megabytesPerSecond() {
+            return bytesRead / 1_000_000.0 / seconds();
+        }
+
+        public double cellsPerSecond() {
+            return cells / seconds();
+        }
+
+        private double seconds() {
+            return Math.max(nanos, 1) / 1_000_000_000.0;
+        }
+    }
+
+    public Summary convert(Path input, Path output, SpokenLocale locale, UploadErrorMode onError) throws IOException {
+        return convert(input, output, locale, onError, bytesRead -> {});
+    }
+
+    /** Like {@link #convert(Path, Path, SpokenLocale, UploadErrorMode)}, reporting the input bytes consumed so far. */
+    public Summary convert(Path input, Path output, SpokenLocale locale, UploadErrorMode onError,
+                           LongConsumer progress) throws IOException {
+        byte[][] records = records(locale);
+        long start = System.nanoTime();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            RecordWriter writer = new RecordWriter(out, records, locale, onError);
+            CsvCellTokenizer tokenizer = new CsvCellTokenizer();
+            byte[] window = new byte[WINDOW_SIZE];
+            long size = in.size();
+            long bytesRead = 0;
+            for (long position = 0; position < size && !writer.aborted; position += regionSize) {
+                MappedByteBuffer region = in.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position));
+                int limit = region.limit();
+                for (int offset = 0; offset < limit && !writer.aborted; offset += WINDOW_SIZE) {
+                    int length = Math.min(WINDOW_SIZE, limit - offset);
+                    region.get(offset, window, 0, length);
+                    tokenizer.feed(window, 0, length, writer);
+                    bytesRead += length;
+                    progress.accept(bytesRead);
+                }
+            }
+            if (!writer.aborted) {
+                tokenizer.finish(writer);
+            }
+            writer.drain();
+            return new Summary(writer.cells, writer.errors, bytesRead, writer.bytesWritten,
+                    System.nanoTime() - start, writer.aborted);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** One NDJSON line per minute of the day, encoded once per conversion. */
+    private byte[][] records(SpokenLocale locale) throws JsonProcessingException {
+        byte[][] records = new byte[TimeParser.MINUTES_PER_DAY][];
+        for (int minuteOfDay = 0; minuteOfDay < records.length; minuteOfDay++) {
+            records[minuteOfDay] = line(objectMapper.writeValueAsBytes(timeService.response(minuteOfDay, locale)));
+        }
+        return records;
+    }
+
+    private static byte[] line(byte[] json) {
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    private final class RecordWriter implements CsvCellTokenizer.CellHandler {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(outputBufferSize);
+        private final byte[][] records;
+        private final SpokenLocale locale;
+        private final CsvCellTokenizer.CellConverter<TimeResult> results;
+        private final UploadErrorMode onError;
+        long cells;
+        long errors;
+        long bytesWritten;
+        boolean aborted;
+
+        RecordWriter(FileChannel channel, byte[][] records, SpokenLocale locale, UploadErrorMode onError) {
+            this.channel = channel;
+            this.records = records;
+            this.locale = locale;
+            this.results = timeService.resultConverter(locale);
+            this.onError = onError;
+        }
+
+        @Override
+        public void cell(byte[] bytes, int offset, int length) {
+            if (aborted) {
+                return;
+            }
+            cells++;
+            int minuteOfDay = TimeParser.parse(bytes, offset, length);
+            if (minuteOfDay >= 0) {
+                write(records[minuteOfDay]);
+                return;
+            }
+            fail(timeService.tryToSpokenTime(bytes, offset, length, locale));
+        }
+
+        @Override
+        public void oversizedCell(byte[] bytes, int offset, int length) {
+            if (aborted) {
+                return;
+            }
+            cells++;
+            fail(results.oversized(bytes, offset, length));
+        }
+
+        private void fail(TimeResult failed) {
+            errors++;
+            try {
+                write(line(objectMapper.writeValueAsBytes(failed)));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            aborted = onError == UploadErrorMode.ABORT;
+        }
+
+        private void write(byte[] record) {
+            if (buffer.remaining() < record.length) {
+                drain();
+            }
+            if (record.length > buffer.capacity()) {
+                writeFully(ByteBuffer.wrap(record));
+            } else {
+                buffer.put(record);
+            }
+        }
+
+        void drain() {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+
+        private void writeFully(ByteBuffer source) {
+            try {
+                while (source.hasRemaining()) {
+                    bytesWritten += channel.write(source);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
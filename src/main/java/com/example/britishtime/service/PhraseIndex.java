@@ -0,0 +1,293 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.model.Meridiem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reverse lookup from a spoken phrase to its minute of day, compiled once from a locale's 1440 forward phrases.
+ *
+ * <p>Input is normalised while it is scanned: case is folded, apostrophes are dropped ("o'clock" reads as
+ * "oclock") and any run of other non-letters separates words. Each word is resolved to a small id through a
+ * character trie over the vocabulary, and up to eight ids are packed into a {@code long} key that is looked up in
+ * an open-addressing hash table. A lookup therefore costs one pass over the characters plus one or two probes,
+ * whatever the number of phrases, and allocates nothing.
+ *
+ * <p>Every 12-hour phrase is stored with both readings ("quarter to ten" is 09:45 and 21:45); a trailing "am",
+ * "pm", "in the morning", ... selects one and takes precedence over the caller's hint. Leading filler such as
+ * "it's a" is skipped.
+ */
+final class PhraseIndex {
+
+    static final int NOT_FOUND = -1;
+
+    private static final int BITS_PER_WORD = 8;
+    private static final int MAX_WORDS = Long.SIZE / BITS_PER_WORD;
+    private static final long WORD_MASK = (1L << BITS_PER_WORD) - 1;
+
+    private static final List<String> FILLERS = List.of("its", "it", "is", "a", "at");
+    private static final List<String> MORNING = List.of("am", "a m", "in the morning");
+    private static final List<String> EVENING = List.of("pm", "p m", "in the afternoon", "in the evening", "at night");
+
+    // Word trie: node * alphabet + symbol -> child node (0 = none, root is node 0 and never a child).
+    private final int[] symbolOf;
+    private final int alphabet;
+    private int[] children;
+    private int[] wordIds;
+    private int trieNodes = 1;
+    private int vocabulary;
+
+    // Phrase table: packed word ids -> (am minute of day << 16) | pm minute of day.
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+
+    private final boolean[] filler;
+    private final long[] morning;
+    private final long[] evening;
+
+    private PhraseIndex(String[] phrases) {
+        List<String> words = new ArrayList<>();
+        for (String phrase : phrases) {
+            words.addAll(List.of(normalise(phrase).split(" ")));
+        }
+        for (String suffix : concat(FILLERS, MORNING, EVENING)) {
+            words.addAll(List.of(suffix.split(" ")));
+        }
+
+        int maxChar = 0;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                maxChar = Math.max(maxChar, word.charAt(i));
+            }
+        }
+        symbolOf = new int[maxChar + 1];
+        Arrays.fill(symbolOf, -1);
+        int symbols = 0;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                if (symbolOf[word.charAt(i)] < 0) {
+                    symbolOf[word.charAt(i)] = symbols++;
+                }
+            }
+        }
+        alphabet = symbols;
+        children = new int[16 * alphabet];
+        wordIds = new int[16];
+
+        List<Long> phraseKeys = new ArrayList<>();
+        for (String phrase : phrases) {
+            phraseKeys.add(compile(normalise(phrase)));
+        }
+
+        morning = MORNING.stream().mapToLong(this::compile).toArray();
+        evening = EVENING.stream().mapToLong(this::compile).toArray();
+        int[] fillerIds = FILLERS.stream().mapToInt(this::addWord).toArray();
+        filler = new boolean[vocabulary + 1];
+        for (int id : fillerIds) {
+            // a filler that is also part of a phrase would be ambiguous; keep it a phrase word
+            filler[id] = !usedInPhrase(id, phraseKeys);
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(phrases.length, 16) * 4 - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+            put(phraseKeys.get(minuteOfDay), minuteOfDay);
+        }
+    }
+
+    /** Builds the index for {@code phrases[minuteOfDay]}, as produced by a {@code TimeFormatterStrategy}. */
+    static PhraseIndex build(String[] phrases) {
+        return new PhraseIndex(phrases);
+    }
+
+    /**
+     * Returns the minute of day for {@code phrase}, or {@link #NOT_FOUND}. {@code hint} picks the morning or
+     * afternoon reading of a 12-hour phrase when the phrase itself does not say; {@code null} means morning.
+     */
+    int lookup(CharSequence phrase, Meridiem hint) {
+        if (phrase == null) {
+            return NOT_FOUND;
+        }
+        long key = 0;
+        int words = 0;
+        int node = 0;
+        boolean inWord = false;
+        int length = phrase.length();
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? Character.toLowerCase(phrase.charAt(i)) : ' ';
+            if (c == '\'' || c == '’') {
+                continue;
+            }
+            if (Character.isLetter(c)) {
+                int symbol = c < symbolOf.length ? symbolOf[c] : -1;
+                if (symbol < 0 || (node = children[node * alphabet + symbol]) == 0) {
+                    return NOT_FOUND;
+                }
+                inWord = true;
+            } else if (inWord) {
+                int id = wordIds[node];
+                if (id == 0) {
+                    return NOT_FOUND;
+                }
+                if (words > 0 || !filler[id]) {
+                    if (words == MAX_WORDS) {
+                        return NOT_FOUND;
+                    }
+                    key = key << BITS_PER_WORD | id;
+                    words++;
+                }
+                node = 0;
+                inWord = false;
+            }
+        }
+        if (words == 0) {
+            return NOT_FOUND;
+        }
+
+        int value = get(key);
+        if (value != NOT_FOUND) {
+            return pick(value, hint);
+        }
+        for (long suffix : morning) {
+            value = withoutSuffix(key, words, suffix);
+            if (value != NOT_FOUND) {
+                return pick(value, Meridiem.AM);
+            }
+        }
+        for (long suffix : evening) {
+            value = withoutSuffix(key, words, suffix);
+            if (value != NOT_FOUND) {
+                return pick(value, Meridiem.PM);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private int withoutSuffix(long key, int words, long suffix) {
+        int suffixWords = (Long.SIZE - Long.numberOfLeadingZeros(suffix) + BITS_PER_WORD - 1) / BITS_PER_WORD;
+        if (suffixWords >= words) {
+            return NOT_FOUND;
+        }
+        long suffixMask = suffixWords == MAX_WORDS ? -1L : (1L << suffixWords * BITS_PER_WORD) - 1;
+        if ((key & suffixMask) != suffix) {
+            return NOT_FOUND;
+        }
+        return get(key >>> suffixWords * BITS_PER_WORD);
+    }
+
+    private static int pick(int value, Meridiem hint) {
+        return hint == Meridiem.PM ? value & 0xFFFF : value >>> 16;
+    }
+
+    static String normalise(String phrase) {
+        StringBuilder normalised = new StringBuilder(phrase.length());
+        boolean separator = false;
+        for (int i = 0; i < phrase.length(); i++) {
+            char c = Character.toLowerCase(phrase.charAt(i));
+            if (c == '\'' || c == '’') {
+                continue;
+            }
+            if (Character.isLetter(c)) {
+                if (separator && normalised.length() > 0) {
+                    normalised.append(' ');
+                }
+                normalised.append(c);
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return normalised.toString();
+    }
+
+    /** Packs the words of a normalised phrase into a key, adding unknown words to the vocabulary. */
+    private long compile(String normalised) {
+        long key = 0;
+        String[] words = normalised.split(" ");
+        if (words.length > MAX_WORDS) {
+            throw new IllegalArgumentException("Phrase has more than " + MAX_WORDS + " words: " + normalised);
+        }
+        for (String word : words) {
+            key = key << BITS_PER_WORD | addWord(word);
+        }
+        return key;
+    }
+
+    private int addWord(String word) {
+        int node = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int slot = node * alphabet + symbolOf[word.charAt(i)];
+            if (children[slot] == 0) {
+                if ((trieNodes + 1) * alphabet > children.length) {
+                    children = Arrays.copyOf(children, children.length * 2);
+                    wordIds = Arrays.copyOf(wordIds, wordIds.length * 2);
+                }
+                children[slot] = trieNodes++;
+            }
+            node = children[slot];
+        }
+        if (wordIds[node] == 0) {
+            if (vocabulary == WORD_MASK) {
+                throw new IllegalStateException("Vocabulary exceeds " + WORD_MASK + " words");
+            }
+            wordIds[node] = ++vocabulary;
+        }
+        return wordIds[node];
+    }
+
+    private static boolean usedInPhrase(int id, List<Long> phraseKeys) {
+        for (long key : phraseKeys) {
+            for (long k = key; k != 0; k >>>= BITS_PER_WORD) {
+                if ((k & WORD_MASK) == id) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void put(long key, int minuteOfDay) {
+        int slot = slot(key);
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == key) {
+            // second reading of a 12-hour phrase; minutes arrive in ascending order, so this is the afternoon one
+            values[slot] = (values[slot] & 0xFFFF0000) | minuteOfDay;
+        } else {
+            keys[slot] = key;
+            values[slot] = (minuteOfDay << 16) | minuteOfDay;
+        }
+    }
+
+    private int get(long key) {
+        int slot = slot(key);
+        long candidate;
+        while ((candidate = keys[slot]) != 0) {
+            if (candidate == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    @SafeVarargs
+    private static List<String> concat(List<String>... lists) {
+        List<String> all = new ArrayList<>();
+        for (List<String> list : lists) {
+            all.addAll(list);
+        }
+        return all;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.model.DictionaryResponse;
+import com.example.britishtime.model.TimeResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Collects the minutes of day of one conversion, all in one locale, as a {@link DictionaryResponse}. A minute
+ * is looked up and added to the dictionary the first time it is seen; every later occurrence costs one array
+ * lookup and one {@code int}. Not thread-safe.
+ */
+public final class ResponseDictionary implements IntConsumer {
+
+    private final TimeService timeService;
+    private final SpokenLocale locale;
+    private final int[] slots = new int[TimeParser.MINUTES_PER_DAY];
+    private final List<TimeResponse> dictionary = new ArrayList<>();
+    private int[] indices = new int[1024];
+    private int size;
+
+    public ResponseDictionary(TimeService timeService, SpokenLocale locale) {
+        this.timeService = timeService;
+        this.locale = locale;
+        Arrays.fill(slots, -1);
+    }
+
+    /** Appends a valid minute of day, as returned by {@link TimeService#toMinuteOfDay}. */
+    @Override
+    public void accept(int minuteOfDay) {
+        int slot = slots[minuteOfDay];
+        if (slot < 0) {
+            slot = dictionary.size();
+            slots[minuteOfDay] = slot;
+            dictionary.add(timeService.response(minuteOfDay, locale));
+        }
+        if (size == indices.length) {
+            indices = Arrays.copyOf(indices, size * 2);
+        }
+        indices[size++] = slot;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public DictionaryResponse toResponse() {
+        return new DictionaryResponse(List.copyOf(dictionary), Arrays.copyOf(indices, size));
+    }
+}
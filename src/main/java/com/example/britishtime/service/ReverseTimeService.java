@@ -0,0 +1,78 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.UnrecognisedPhraseException;
+import com.example.britishtime.exception.UnsupportedLocaleException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.model.Meridiem;
+import com.example.britishtime.model.PhraseResult;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spoken phrase to {@code HH:mm}, the inverse of {@link TimeService}. One {@link PhraseIndex} per locale is
+ * compiled at startup from the phrases {@link TimeService} hands out, so every phrase the API can produce
+ * converts back to its time.
+ */
+@Service
+public class ReverseTimeService {
+
+    static final String UNRECOGNISED_MESSAGE = "phrase is not a recognised spoken time";
+    private static final UnrecognisedPhraseException UNRECOGNISED = UnrecognisedPhraseException.shared(UNRECOGNISED_MESSAGE);
+
+    private final PhraseIndex[] indexes = new PhraseIndex[SpokenLocale.values().length];
+
+    public ReverseTimeService(TimeService timeService) {
+        for (SpokenLocale locale : timeService.getLocales()) {
+            String[] phrases = new String[TimeParser.MINUTES_PER_DAY];
+            for (int minuteOfDay = 0; minuteOfDay < phrases.length; minuteOfDay++) {
+                phrases[minuteOfDay] = timeService.response(minuteOfDay, locale).spoken();
+            }
+            indexes[locale.ordinal()] = PhraseIndex.build(phrases);
+        }
+    }
+
+    /**
+     * Returns the minute of day for {@code phrase}, or a negative value if it is not recognised.
+     * {@code meridiem} resolves 12-hour phrases that carry no "am"/"pm" of their own; {@code null} means AM.
+     */
+    public int minuteOfDay(CharSequence phrase, Meridiem meridiem, SpokenLocale locale) {
+        return index(locale).lookup(phrase, meridiem);
+    }
+
+    /** Like {@link #minuteOfDay}, returning {@code HH:mm} and throwing for an unrecognised phrase. */
+    public String toTime(String phrase, Meridiem meridiem, SpokenLocale locale) {
+        int minuteOfDay = minuteOfDay(phrase, meridiem, locale);
+        if (minuteOfDay < 0) {
+            throw UNRECOGNISED;
+        }
+        return TimeParser.canonical(minuteOfDay);
+    }
+
+    public PhraseResult tryToTime(String phrase, Meridiem meridiem, SpokenLocale locale) {
+        int minuteOfDay = minuteOfDay(phrase, meridiem, locale);
+        if (minuteOfDay < 0) {
+            return PhraseResult.failed(phrase, UNRECOGNISED_MESSAGE);
+        }
+        return PhraseResult.of(phrase, TimeParser.canonical(minuteOfDay));
+    }
+
+    /** Converts every phrase of a bulk request, in order; unrecognised phrases become error results. */
+    public List<PhraseResult> toTimes(List<String> phrases, Meridiem meridiem, SpokenLocale locale) {
+        index(locale);
+        List<PhraseResult> results = new ArrayList<>(phrases.size());
+        for (String phrase : phrases) {
+            results.add(tryToTime(phrase, meridiem, locale));
+        }
+        return results;
+    }
+
+    private PhraseIndex index(SpokenLocale locale) {
+        PhraseIndex index = indexes[locale.ordinal()];
+        if (index == null) {
+            throw new UnsupportedLocaleException("No formatter registered for " + locale.key());
+        }
+        return index;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.britishtime.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation-free parser for {@code HH:mm} input. Results are returned as a primitive
+ * minute-of-day (0–1439); failures are returned as one of the negative error codes below.
+ */
+public final class TimeParser {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    public static final int MISSING = -1;
+    public static final int BAD_FORMAT = -2;
+    public static final int BAD_NUMBER = -3;
+    public static final int HOUR_OUT_OF_RANGE = -4;
+    public static final int MINUTE_OUT_OF_RANGE = -5;
+
+    private static final String[] MESSAGES = {
+            "time parameter is required",
+            "time must be in HH:mm format",
+            "invalid numeric time format",
+            "hour must be between 0 and 23",
+            "minute must be between 0 and 59"
+    };
+
+    private static final String[] REASONS = {
+            "missing", "bad_format", "bad_number", "hour_out_of_range", "minute_out_of_range"
+    };
+
+    /** Number of distinct error codes, {@code -1} to {@code -ERROR_COUNT}. */
+    public static final int ERROR_COUNT = MESSAGES.length;
+
+    // Above any int magnitude, so overflow is still detected; clamping keeps the accumulator from overflowing.
+    private static final long OVERFLOW = 1L << 32;
+
+    private static final String[] CANONICAL = new String[MINUTES_PER_DAY];
+
+    static {
+        for (int minuteOfDay = 0; minuteOfDay < MINUTES_PER_DAY; minuteOfDay++) {
+            int hour = minuteOfDay / 60;
+            int minute = minuteOfDay % 60;
+            CANONICAL[minuteOfDay] = new String(new char[]{
+                    (char) ('0' + hour / 10), (char) ('0' + hour % 10), ':',
+                    (char) ('0' + minute / 10), (char) ('0' + minute % 10)
+            }).intern();
+        }
+    }
+
+    private TimeParser() {
+    }
+
+    public static int parse(CharSequence text) {
+        if (text == null) {
+            return MISSING;
+        }
+        return parse(text, 0, text.length());
+    }
+
+    public static int parse(CharSequence text, int offset, int length) {
+        return parse(text, null, offset, length);
+    }
+
+    public static int parse(byte[] bytes, int offset, int length) {
+        return parse(null, bytes, offset, length);
+    }
+
+    /**
+     * Parses {@code text} or, if it is {@code null}, {@code bytes}; both are read through {@link #at} so the two
+     * public entry points share one loop. The result matches the former {@code trim().split(":")} plus
+     * {@code Integer.parseInt}: trailing colons are ignored as {@code split} ignores trailing empty parts, and a
+     * number that does not fit an {@code int} is {@link #BAD_NUMBER}. The loop handles ASCII only; input with any
+     * other character, such as the non-ASCII digits {@code parseInt} accepts, goes to {@link #parseBaseline}.
+     */
+    private static int parse(CharSequence text, byte[] bytes, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && at(text, bytes, start) <= ' ') start++;
+        while (end > start && at(text, bytes, end - 1) <= ' ') end--;
+        if (start == end) {
+            // trim() strips every control character, but only whitespace makes the input blank
+            for (int i = offset; i < offset + length; i++) {
+                if (!Character.isWhitespace(at(text, bytes, i))) {
+                    return BAD_FORMAT;
+                }
+            }
+            return MISSING;
+        }
+        while (end > start && at(text, bytes, end - 1) == ':') end--;
+        if (start == end) {
+            return BAD_FORMAT;
+        }
+
+        int colons = 0;
+        int partStart = start;
+        boolean numeric = true;
+        long hour = 0, minute = 0;
+        int hourSign = 1, minuteSign = 1;
+        int hourDigits = 0, minuteDigits = 0;
+        for (int i = start; i < end; i++) {
+            int c = at(text, bytes, i);
+            if (c == ':') {
+                colons++;
+                partStart = i + 1;
+            } else if (c >= '0' && c <= '9') {
+                if (colons == 0) {
+                    hour = Math.min(hour * 10 + (c - '0'), OVERFLOW);
+                    hourDigits++;
+                } else {
+                    minute = Math.min(minute * 10 + (c - '0'), OVERFLOW);
+                    minuteDigits++;
+                }
+            } else if (i == partStart && (c == '-' || c == '+')) {
+                // Integer.parseInt compatible sign
+                if (c == '-') {
+                    if (colons == 0) hourSign = -1;
+                    else minuteSign = -1;
+                }
+            } else if (c >= 0x80) {
+                return parseBaseline(text != null
+                        ? text.subSequence(offset, offset + length).toString()
+                        : new String(bytes, offset, length, StandardCharsets.UTF_8));
+            } else {
+                numeric = false;
+            }
+        }
+        if (colons != 1) {
+            return BAD_FORMAT;
+        }
+        if (!numeric || hourDigits == 0 || minuteDigits == 0
+                || !fitsInt(hour, hourSign) || !fitsInt(minute, minuteSign)) {
+            return BAD_NUMBER;
+        }
+        return validate((int) (hour * hourSign), (int) (minute * minuteSign));
+    }
+
+    /** The former parser, kept for input outside ASCII; only the result is returned instead of thrown. */
+    private static int parseBaseline(String text) {
+        if (text.isBlank()) {
+            return MISSING;
+        }
+        String[] parts = text.trim().split(":");
+        if (parts.length != 2) {
+            return BAD_FORMAT;
+        }
+        try {
+            return validate(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        } catch (NumberFormatException e) {
+            return BAD_NUMBER;
+        }
+    }
+
+    private static int at(CharSequence text, byte[] bytes, int index) {
+        return bytes != null ? bytes[index] & 0xFF : text.charAt(index);
+    }
+
+    private static boolean fitsInt(long magnitude, int sign) {
+        return sign > 0 ? magnitude <= Integer.MAX_VALUE : magnitude <= -(long) Integer.MIN_VALUE;
+    }
+
+    public static int validate(int hour, int minute) {
+        if (hour < 0 || hour > 23) {
+            return HOUR_OUT_OF_RANGE;
+        }
+        if (minute < 0 || minute > 59) {
+            return MINUTE_OUT_OF_RANGE;
+        }
+        return hour * 60 + minute;
+    }
+
+    /** Interned {@code HH:mm} form of a minute-of-day. */
+    public static String canonical(int minuteOfDay) {
+        return CANONICAL[minuteOfDay];
+    }
+
+    public static String message(int errorCode) {
+        return MESSAGES[-errorCode - 1];
+    }
+
+    /** Short, metric-friendly name of an error code. */
+    public static String reason(int errorCode) {
+        return REASONS[-errorCode - 1];
+    }
+}
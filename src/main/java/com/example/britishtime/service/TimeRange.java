@@ -0,0 +1,20 @@
+package com.example.britishtime.service;
+
+/**
+ * Evenly spaced slots from a start time, {@code step} minutes apart, up to and including an end time.
+ * An end before the start wraps past midnight: 22:00–02:00 covers the four hours around midnight, and
+ * 00:00–23:59 at step 1 is the whole day. Slots are computed on demand rather than stored.
+ */
+public record TimeRange(int start, int step, int count) {
+
+    /** Builds the range for valid minutes of day {@code start} and {@code end} and a step of 1–1440 minutes. */
+    public static TimeRange of(int start, int end, int step) {
+        int span = Math.floorMod(end - start, TimeParser.MINUTES_PER_DAY);
+        return new TimeRange(start, step, span / step + 1);
+    }
+
+    /** Minute of day of the {@code index}-th slot, {@code 0 <= index < count}. */
+    public int minuteOfDay(int index) {
+        return (start + index * step) % TimeParser.MINUTES_PER_DAY;
+    }
+}
@@ -1,51 +1,332 @@
 package com.example.britishtime.service;
 
 import com.example.britishtime.exception.InvalidTimeException;
-import com.example.britishtime.formatter.TimeFormatterStrategy;
+import com.example.britishtime.exception.UnsupportedLocaleException;
+import com.example.britishtime.exception.UnsupportedZoneException;
+import com.example.britishtime.formatter.SpokenLocale;
 import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.formatter.TimeFormatterStrategy;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.TimeInput;
 import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.model.TimeResult;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class TimeService {
 
-    private final TimeFormatterStrategy formatter;
+    // One stackless exception per parser error code; rejecting input allocates nothing.
+    private static final InvalidTimeException[] REJECTIONS = new InvalidTimeException[TimeParser.ERROR_COUNT];
+
+    static {
+        for (int i = 0; i < REJECTIONS.length; i++) {
+            REJECTIONS[i] = InvalidTimeException.shared(TimeParser.message(-i - 1));
+        }
+    }
+
+    private static final InvalidTimeException INVALID_INSTANT = InvalidTimeException.shared(InstantParser.MESSAGE);
+
+    static final String STEP_MESSAGE = "step must be between 1 and " + TimeParser.MINUTES_PER_DAY + " minutes";
+    private static final InvalidTimeException INVALID_STEP = InvalidTimeException.shared(STEP_MESSAGE);
+
+    private final SpokenTimeMetrics metrics;
+    private final List<SpokenLocale> locales;
+    // Responses are immutable, so every request for the same (locale, time) shares one instance.
+    private final TimeResponse[][] responses = new TimeResponse[SpokenLocale.values().length][];
+    private final TimeResult[][] results = new TimeResult[SpokenLocale.values().length][];
+    private final ZoneOffsetCache zones = new ZoneOffsetCache();
 
     public TimeService(TimeFormatterFactory factory) {
-        // Currently only British formatter exists; factory allows extensibility.
-        this.formatter = factory.getFormatter("british");
+        this(factory, SpokenTimeMetrics.noop());
+    }
+
+    @Autowired
+    public TimeService(TimeFormatterFactory factory, SpokenTimeMetrics metrics) {
+        this.metrics = metrics;
+        this.locales = factory.getLocales();
+        for (SpokenLocale locale : locales) {
+            TimeFormatterStrategy formatter = factory.getFormatter(locale);
+            TimeResponse[] localeResponses = new TimeResponse[TimeParser.MINUTES_PER_DAY];
+            TimeResult[] localeResults = new TimeResult[TimeParser.MINUTES_PER_DAY];
+            for (int minuteOfDay = 0; minuteOfDay < TimeParser.MINUTES_PER_DAY; minuteOfDay++) {
+                String original = TimeParser.canonical(minuteOfDay);
+                String spoken = formatter.formatMinuteOfDay(minuteOfDay);
+                localeResponses[minuteOfDay] = new TimeResponse(original, spoken);
+                localeResults[minuteOfDay] = new TimeResult(original, spoken, null);
+            }
+            responses[locale.ordinal()] = localeResponses;
+            results[locale.ordinal()] = localeResults;
+        }
+    }
+
+    /** Locales this service can convert to. */
+    public List<SpokenLocale> getLocales() {
+        return locales;
     }
 
     public TimeResponse toSpokenTime(String hhmm) {
-        if (hhmm == null || hhmm.isBlank()) {
-            throw new InvalidTimeException("time parameter is required");
+        return toSpokenTime(hhmm, SpokenLocale.BRITISH);
+    }
+
+    public TimeResponse toSpokenTime(String hhmm, SpokenLocale locale) {
+        return responses(locale)[checked(TimeParser.parse(hhmm), locale)];
+    }
+
+    public TimeResponse toSpokenTime(int hour, int minute) {
+        return toSpokenTime(hour, minute, SpokenLocale.BRITISH);
+    }
+
+    public TimeResponse toSpokenTime(int hour, int minute, SpokenLocale locale) {
+        return responses(locale)[checked(TimeParser.validate(hour, minute), locale)];
+    }
+
+    public TimeResult tryToSpokenTime(String hhmm) {
+        return tryToSpokenTime(hhmm, SpokenLocale.BRITISH);
+    }
+
+    /**
+     * Like {@link #toSpokenTime(String, SpokenLocale)}, but reports invalid input as an error result instead of throwing.
+     */
+    public TimeResult tryToSpokenTime(String hhmm, SpokenLocale locale) {
+        TimeResult[] table = results(locale);
+        int minuteOfDay = TimeParser.parse(hhmm);
+        if (minuteOfDay < 0) {
+            metrics.rejected(minuteOfDay);
+            return TimeResult.failed(hhmm, TimeParser.message(minuteOfDay));
         }
-        String[] parts = hhmm.trim().split(":");
-        if (parts.length != 2) {
-            throw new InvalidTimeException("time must be in HH:mm format");
+        metrics.converted(locale);
+        return table[minuteOfDay];
+    }
+
+    /**
+     * Converts a UTF-8 encoded time without decoding it; only an invalid cell is turned into a String,
+     * for its error result.
+     */
+    public TimeResponse toSpokenTime(byte[] bytes, int offset, int length, SpokenLocale locale) {
+        return responses(locale)[checked(TimeParser.parse(bytes, offset, length), locale)];
+    }
+
+    /**
+     * Validates a UTF-8 encoded time and counts it like {@link #toSpokenTime(byte[], int, int, SpokenLocale)},
+     * but returns its minute of day, for callers that look the response up themselves.
+     */
+    public int toMinuteOfDay(byte[] bytes, int offset, int length, SpokenLocale locale) {
+        return checked(TimeParser.parse(bytes, offset, length), locale);
+    }
+
+    /**
+     * Like {@link #toSpokenTime(byte[], int, int, SpokenLocale)}, but reports invalid input as an error result.
+     */
+    public TimeResult tryToSpokenTime(byte[] bytes, int offset, int length, SpokenLocale locale) {
+        TimeResult[] table = results(locale);
+        int minuteOfDay = TimeParser.parse(bytes, offset, length);
+        if (minuteOfDay < 0) {
+            metrics.rejected(minuteOfDay);
+            return TimeResult.failed(new String(bytes, offset, length, StandardCharsets.UTF_8).trim(),
+                    TimeParser.message(minuteOfDay));
         }
-        try {
-            int hour = Integer.parseInt(parts[0]);
-            int minute = Integer.parseInt(parts[1]);
-            return toSpokenTime(hour, minute);
-        } catch (NumberFormatException ex) {
-            throw new InvalidTimeException("invalid numeric time format");
+        metrics.converted(locale);
+        return table[minuteOfDay];
+    }
+
+    /**
+     * A converter for the cells of an uploaded file of times whose results are streamed: invalid cells, and cells
+     * longer than {@link CsvCellTokenizer#MAX_CELL_BYTES}, become error results instead of ending the upload.
+     */
+    public CsvCellTokenizer.CellConverter<TimeResult> resultConverter(SpokenLocale locale) {
+        return new CsvCellTokenizer.CellConverter<>() {
+            @Override
+            public TimeResult convert(byte[] bytes, int offset, int length) {
+                return tryToSpokenTime(bytes, offset, length, locale);
+            }
+
+            @Override
+            public TimeResult oversized(byte[] bytes, int offset, int length) {
+                metrics.rejected(TimeParser.BAD_FORMAT);
+                return oversizedResult(bytes, offset, length);
+            }
+        };
+    }
+
+    public TimeResult tryToSpokenTime(int hour, int minute, SpokenLocale locale) {
+        TimeResult[] table = results(locale);
+        int minuteOfDay = TimeParser.validate(hour, minute);
+        if (minuteOfDay < 0) {
+            metrics.rejected(minuteOfDay);
+            return TimeResult.failed(hour + ":" + minute, TimeParser.message(minuteOfDay));
         }
+        metrics.converted(locale);
+        return table[minuteOfDay];
     }
 
-    public TimeResponse toSpokenTime(int hour, int minute) {
-        validate(hour, minute);
-        String spoken = formatter.format(hour, minute);
-        String original = String.format("%02d:%02d", hour, minute);
-        return new TimeResponse(original, spoken);
+    public List<TimeResult> toSpokenTimes(List<TimeInput> inputs) {
+        return toSpokenTimes(inputs, SpokenLocale.BRITISH);
+    }
+
+    /**
+     * Converts every item of a bulk request, in order; invalid items become error results.
+     */
+    public List<TimeResult> toSpokenTimes(List<TimeInput> inputs, SpokenLocale locale) {
+        results(locale);
+        List<TimeResult> converted = new ArrayList<>(inputs.size());
+        for (TimeInput input : inputs) {
+            if (input == null || (input.time() == null && (input.hour() == null || input.minute() == null))) {
+                metrics.rejected(TimeParser.MISSING);
+                converted.add(TimeResult.failed(null, TimeParser.message(TimeParser.MISSING)));
+            } else if (input.time() != null) {
+                converted.add(tryToSpokenTime(input.time(), locale));
+            } else {
+                converted.add(tryToSpokenTime(input.hour(), input.minute(), locale));
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Resolves a zone id for the instant conversions; unknown ids throw {@link UnsupportedZoneException}.
+     */
+    public ZoneId zone(String id) {
+        return zones.zone(id).id();
+    }
+
+    /**
+     * The spoken local time of {@code instant} in {@code zone}; the response's original is the local {@code HH:mm}.
+     */
+    public TimeResponse toSpokenTime(Instant instant, ZoneId zone, SpokenLocale locale) {
+        return toSpokenTime(instant.toEpochMilli(), zone, locale);
+    }
+
+    public TimeResponse toSpokenTime(long epochMilli, ZoneId zone, SpokenLocale locale) {
+        return responses(locale)[checked(zones.zone(zone.getId()).minuteOfDay(epochMilli), locale)];
     }
 
-    private void validate(int hour, int minute) {
-        if (hour < 0 || hour > 23) {
-            throw new InvalidTimeException("hour must be between 0 and 23");
+    /**
+     * Like {@link #toSpokenTime(long, ZoneId, SpokenLocale)} for an instant given as text, epoch milliseconds or
+     * ISO-8601.
+     */
+    public TimeResponse toSpokenTimeAt(String instant, String zone, SpokenLocale locale) {
+        TimeResponse[] table = responses(locale);
+        ZoneOffsetCache.Zone resolved = zones.zone(zone);
+        long epochMilli = InstantParser.parse(instant);
+        if (epochMilli == InstantParser.INVALID) {
+            metrics.rejectedInstant();
+            throw INVALID_INSTANT;
         }
-        if (minute < 0 || minute > 59) {
-            throw new InvalidTimeException("minute must be between 0 and 59");
+        return table[checked(resolved.minuteOfDay(epochMilli), locale)];
+    }
+
+    /**
+     * Converts every instant of a bulk request to spoken local time in one zone, in order; unreadable instants
+     * become error results. The zone is resolved once and its offset is cached across the batch.
+     */
+    public List<TimeResult> toSpokenTimesAt(List<String> instants, String zone, SpokenLocale locale) {
+        TimeResult[] table = results(locale);
+        ZoneOffsetCache.Zone resolved = zones.zone(zone);
+        List<TimeResult> converted = new ArrayList<>(instants.size());
+        for (String instant : instants) {
+            long epochMilli = InstantParser.parse(instant);
+            if (epochMilli == InstantParser.INVALID) {
+                metrics.rejectedInstant();
+                converted.add(TimeResult.failed(instant, InstantParser.MESSAGE));
+            } else {
+                metrics.converted(locale);
+                converted.add(table[resolved.minuteOfDay(epochMilli)]);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * A converter for the cells of an uploaded file of instants, all in one zone; unreadable instants become error
+     * results. The zone is resolved once, here, and its offset is cached across the upload.
+     */
+    public CsvCellTokenizer.CellConverter<TimeResult> instantConverter(String zone, SpokenLocale locale) {
+        TimeResult[] table = results(locale);
+        ZoneOffsetCache.Zone resolved = zones.zone(zone);
+        return new CsvCellTokenizer.CellConverter<>() {
+            @Override
+            public TimeResult convert(byte[] bytes, int offset, int length) {
+                String instant = new String(bytes, offset, length, StandardCharsets.UTF_8);
+                long epochMilli = InstantParser.parse(instant);
+                if (epochMilli == InstantParser.INVALID) {
+                    metrics.rejectedInstant();
+                    return TimeResult.failed(instant, InstantParser.MESSAGE);
+                }
+                metrics.converted(locale);
+                return table[resolved.minuteOfDay(epochMilli)];
+            }
+
+            @Override
+            public TimeResult oversized(byte[] bytes, int offset, int length) {
+                metrics.rejectedInstant();
+                return oversizedResult(bytes, offset, length);
+            }
+        };
+    }
+
+    /**
+     * Validates the bounds of a schedule, {@code HH:mm} each, and a step in minutes; see {@link TimeRange}.
+     */
+    public TimeRange range(String start, String end, int step) {
+        int from = valid(TimeParser.parse(start));
+        int to = valid(TimeParser.parse(end));
+        if (step < 1 || step > TimeParser.MINUTES_PER_DAY) {
+            throw INVALID_STEP;
         }
+        return TimeRange.of(from, to, step);
+    }
+
+    /**
+     * The shared response for a minute-of-day, without validation or metrics; for building caches.
+     */
+    public TimeResponse response(int minuteOfDay, SpokenLocale locale) {
+        return responses(locale)[minuteOfDay];
+    }
+
+    /** The error result for a cell longer than {@link CsvCellTokenizer#MAX_CELL_BYTES}, given its leading bytes. */
+    private static TimeResult oversizedResult(byte[] bytes, int offset, int length) {
+        return TimeResult.failed(new String(bytes, offset, length, StandardCharsets.UTF_8),
+                CsvCellTokenizer.OVERSIZED_MESSAGE);
+    }
+
+    private TimeResponse[] responses(SpokenLocale locale) {
+        TimeResponse[] table = responses[locale.ordinal()];
+        if (table == null) {
+            throw unsupported(locale);
+        }
+        return table;
+    }
+
+    private TimeResult[] results(SpokenLocale locale) {
+        TimeResult[] table = results[locale.ordinal()];
+        if (table == null) {
+            throw unsupported(locale);
+        }
+        return table;
+    }
+
+    private static UnsupportedLocaleException unsupported(SpokenLocale locale) {
+        return new UnsupportedLocaleException("No formatter registered for " + locale.key());
+    }
+
+    private int valid(int minuteOfDay) {
+        if (minuteOfDay < 0) {
+            metrics.rejected(minuteOfDay);
+            throw REJECTIONS[-minuteOfDay - 1];
+        }
+        return minuteOfDay;
+    }
+
+    private int checked(int minuteOfDay, SpokenLocale locale) {
+        valid(minuteOfDay);
+        metrics.converted(locale);
+        return minuteOfDay;
     }
 }
@@ -0,0 +1,149 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.UnsupportedZoneException;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local minute of day for instants in a time zone, without consulting {@link ZoneRules} per instant.
+ *
+ * <p>Each zone remembers the transition window, between two offset changes, that it last resolved, together with
+ * the windows just before and after it, and the offset in force in each. An instant inside those windows is
+ * converted with two divisions; only an instant outside them goes back to the rules. Event streams are roughly
+ * ordered in time, but events around a DST change arrive on both sides of it in any order; keeping the neighbouring
+ * windows means they never push each other out, and a bulk request of millions of timestamps resolves a handful
+ * of windows.
+ * Region zones are looked up by the id the client sent, so {@link ZoneId#of} runs once per distinct id. Fixed
+ * offsets are not cached: they have about a million valid spellings ({@code +01}, {@code +0100}, {@code UTC+1},
+ * {@code GMT+01:00}, ...) but no transitions to remember, so each lookup builds its own.
+ */
+final class ZoneOffsetCache {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private final ConcurrentMap<String, Zone> zones = new ConcurrentHashMap<>();
+
+    /** Returns the zone for a region id ({@code Europe/London}) or offset ({@code +02:00}, {@code UTC}). */
+    Zone zone(String id) {
+        if (id == null || id.isBlank()) {
+            throw new UnsupportedZoneException("zone is required");
+        }
+        Zone zone = zones.get(id);
+        if (zone != null) {
+            return zone;
+        }
+        ZoneId zoneId;
+        try {
+            zoneId = ZoneId.of(id);
+        } catch (DateTimeException e) {
+            throw new UnsupportedZoneException("Unknown time zone: " + id);
+        }
+        if (zoneId.normalized() instanceof ZoneOffset) {
+            return new Zone(zoneId);
+        }
+        // every other id is an exact key of the zone database, so the map is bounded by it
+        return zones.computeIfAbsent(id, key -> new Zone(zoneId));
+    }
+
+    /** Number of cached zones. */
+    int size() {
+        return zones.size();
+    }
+
+    static final class Zone {
+
+        /**
+         * Three consecutive transition windows: {@code offsets[i]} is in force from {@code bounds[i]} inclusive to
+         * {@code bounds[i + 1]} exclusive. A missing neighbour, before the first or after the last transition, is
+         * an empty window.
+         */
+        private record Windows(long[] bounds, int[] offsets) {
+
+            static final int OUTSIDE = Integer.MIN_VALUE;
+
+            int offsetSeconds(long epochSecond) {
+                if (epochSecond < bounds[0]) {
+                    return OUTSIDE;
+                }
+                for (int i = 0; i < offsets.length; i++) {
+                    if (epochSecond < bounds[i + 1]) {
+                        return offsets[i];
+                    }
+                }
+                return OUTSIDE;
+            }
+        }
+
+        private final ZoneId id;
+        private final ZoneRules rules;
+        private final AtomicInteger resolutions = new AtomicInteger();
+        private volatile Windows windows;
+
+        private Zone(ZoneId id) {
+            this.id = id;
+            this.rules = id.getRules();
+        }
+
+        ZoneId id() {
+            return id;
+        }
+
+        int minuteOfDay(long epochMilli) {
+            long epochSecond = Math.floorDiv(epochMilli, 1000);
+            Windows current = windows;
+            int offsetSeconds = current == null ? Windows.OUTSIDE : current.offsetSeconds(epochSecond);
+            if (offsetSeconds == Windows.OUTSIDE) {
+                current = resolve(epochSecond);
+                windows = current;
+                offsetSeconds = current.offsetSeconds(epochSecond);
+            }
+            long localMinute = Math.floorDiv(epochSecond + offsetSeconds, SECONDS_PER_MINUTE);
+            return (int) Math.floorMod(localMinute, TimeParser.MINUTES_PER_DAY);
+        }
+
+        /** Number of times the zone rules were consulted. */
+        int resolutions() {
+            return resolutions.get();
+        }
+
+        /**
+         * The window {@code [previous transition, next transition)} around {@code epochSecond} and the windows
+         * on either side of it.
+         */
+        private Windows resolve(long epochSecond) {
+            resolutions.incrementAndGet();
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            int offset = rules.getOffset(instant).getTotalSeconds();
+            if (rules.isFixedOffset()) {
+                return new Windows(new long[] {Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE},
+                        new int[] {offset, offset, offset});
+            }
+            // previousTransition is strictly before its argument; include a transition at epochSecond itself
+            ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            long[] bounds = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+            int[] offsets = {offset, offset, offset};
+            if (previous != null) {
+                ZoneOffsetTransition beforePrevious = rules.previousTransition(previous.getInstant());
+                bounds[0] = beforePrevious == null ? Long.MIN_VALUE : beforePrevious.toEpochSecond();
+                bounds[1] = previous.toEpochSecond();
+                offsets[0] = previous.getOffsetBefore().getTotalSeconds();
+            }
+            if (next != null) {
+                ZoneOffsetTransition afterNext = rules.nextTransition(next.getInstant());
+                bounds[2] = next.toEpochSecond();
+                bounds[3] = afterNext == null ? Long.MAX_VALUE : afterNext.toEpochSecond();
+                offsets[2] = next.getOffsetAfter().getTotalSeconds();
+            }
+            return new Windows(bounds, offsets);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.britishtime.web;
+
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * In-process admission control for {@code /api/v1/spoken-time}: one {@link Bulkhead} per endpoint class, so that
+ * a handful of large uploads cannot take the threads that sub-millisecond lookups need. Requests a bulkhead refuses
+ * are answered with 429 and {@code Retry-After} by the servlet or WebFlux filter; the body is encoded once per
+ * class here.
+ *
+ * <p>Each class is configured under {@code spoken-time.admission.<class>} ({@code lookup}, {@code batch},
+ * {@code upload}) with the {@link Bulkhead.Settings} keys {@code max-concurrent}, {@code min-concurrent},
+ * {@code queue-depth}, {@code queue-timeout}, {@code latency-target} and {@code retry-after}; unset keys keep the
+ * class defaults below. {@code spoken-time.admission.enabled=false} turns admission control off.
+ */
+@Component
+public class AdmissionControl {
+
+    public static final String API_PATH = "/api/v1/spoken-time";
+    private static final String PREFIX = "spoken-time.admission.";
+
+    public enum EndpointClass {
+        /** Single conversions and job status: cheap, latency-sensitive, adaptive. */
+        LOOKUP(new Bulkhead.Settings(128, 16, 64, Duration.ofMillis(20), Duration.ofMillis(25), Duration.ofSeconds(1))),
+        /** JSON batch bodies of up to {@code spoken-time.batch.max-items}. */
+        BATCH(new Bulkhead.Settings(16, 2, 32, Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2))),
+        /**
+         * CSV and binary uploads, job submissions and job result downloads. Their duration follows the file size
+         * rather than the load, so the limit is fixed.
+         */
+        UPLOAD(new Bulkhead.Settings(8, 1, 8, Duration.ofSeconds(2), Duration.ZERO, Duration.ofSeconds(5)));
+
+        private final Bulkhead.Settings defaults;
+
+        EndpointClass(Bulkhead.Settings defaults) {
+            this.defaults = defaults;
+        }
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final boolean enabled;
+    private final Bulkhead[] bulkheads = new Bulkhead[EndpointClass.values().length];
+    private final Counter[] rejections = new Counter[EndpointClass.values().length];
+    private final byte[][] rejectionBodies = new byte[EndpointClass.values().length][];
+    private final String[] retryAfter = new String[EndpointClass.values().length];
+
+    public AdmissionControl(Environment environment, SpokenTimeMetrics metrics) {
+        this.enabled = environment.getProperty(PREFIX + "enabled", Boolean.class, true);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            int i = endpointClass.ordinal();
+            Bulkhead bulkhead = new Bulkhead(settings(environment, endpointClass));
+            bulkheads[i] = bulkhead;
+            rejections[i] = metrics.admission(endpointClass.key(), bulkhead::limit, bulkhead::inFlight, bulkhead::queued);
+            retryAfter[i] = Long.toString(Math.max(1, bulkhead.settings().retryAfter().toSeconds()));
+            rejectionBodies[i] = ("{\"code\":\"too_many_requests\",\"message\":\"Too many concurrent "
+                    + endpointClass.key() + " requests, retry after " + retryAfter[i] + " s\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Bulkhead.Settings settings(Environment environment, EndpointClass endpointClass) {
+        String prefix = PREFIX + endpointClass.key() + ".";
+        Bulkhead.Settings defaults = endpointClass.defaults;
+        return new Bulkhead.Settings(
+                environment.getProperty(prefix + "max-concurrent", Integer.class, defaults.maxConcurrent()),
+                environment.getProperty(prefix + "min-concurrent", Integer.class, defaults.minConcurrent()),
+                environment.getProperty(prefix + "queue-depth", Integer.class, defaults.queueDepth()),
+                environment.getProperty(prefix + "queue-timeout", Duration.class, defaults.queueTimeout()),
+                environment.getProperty(prefix + "latency-target", Duration.class, defaults.latencyTarget()),
+                environment.getProperty(prefix + "retry-after", Duration.class, defaults.retryAfter()));
+    }
+
+    /**
+     * The class of a request, or {@code null} when it is not subject to admission control. Event streams are not:
+     * they stay open for many minutes but cost nothing between events, and a permit would be held all that time.
+     * {@code path} is the path within the application, without the context path and {@code ;} parameters, as the
+     * handler mappings match it.
+     */
+    public EndpointClass classify(String method, String path) {
+        if (!enabled || !path.startsWith(API_PATH) || path.endsWith("/now/stream")) {
+            return null;
+        }
+        if ("POST".equals(method)) {
+            if (path.endsWith("/upload") || path.endsWith("/jobs")) {
+                return EndpointClass.UPLOAD;
+            }
+            if (path.endsWith("/batch")) {
+                return EndpointClass.BATCH;
+            }
+        }
+        if (path.endsWith("/result")) {
+            return EndpointClass.UPLOAD;
+        }
+        return EndpointClass.LOOKUP;
+    }
+
+    public Bulkhead bulkhead(EndpointClass endpointClass) {
+        return bulkheads[endpointClass.ordinal()];
+    }
+
+    /** Counts a refused request and returns its pre-encoded JSON error body. */
+    public byte[] reject(EndpointClass endpointClass) {
+        rejections[endpointClass.ordinal()].increment();
+        return rejectionBodies[endpointClass.ordinal()];
+    }
+
+    /** {@code Retry-After} value, in seconds, for a refused request of this class. */
+    public String retryAfter(EndpointClass endpointClass) {
+        return retryAfter[endpointClass.ordinal()];
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.britishtime.web;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Servlet side of {@link AdmissionControl}. Runs before the multipart body is read, so a refused upload costs no
+ * more than its headers. A request that queues waits on its request thread, for at most the class's
+ * {@code queue-timeout}. The permit is held until the response is complete, including responses written
+ * asynchronously, such as streamed NDJSON and binary results.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionControl admission;
+
+    public AdmissionControlFilter(AdmissionControl admission) {
+        this.admission = admission;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdmissionControl.EndpointClass endpointClass = admission.classify(request.getMethod(),
+                UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        if (endpointClass == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Bulkhead bulkhead = admission.bulkhead(endpointClass);
+        if (!bulkhead.acquireBlocking()) {
+            byte[] body = admission.reject(endpointClass);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, admission.retryAfter(endpointClass));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(bulkhead, start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                bulkhead.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /** Releases the permit of an asynchronously completed request exactly once. */
+    private static final class ReleaseOnCompletion implements AsyncListener {
+
+        private final Bulkhead bulkhead;
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnCompletion(Bulkhead bulkhead, long start) {
+            this.bulkhead = bulkhead;
+            this.start = start;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // the request continues under the same permit
+        }
+    }
+}
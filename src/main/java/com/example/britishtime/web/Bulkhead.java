@@ -0,0 +1,150 @@
+package com.example.britishtime.web;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit for one class of endpoints, with a short bounded queue in front of it.
+ *
+ * <p>A request gets a permit at once while fewer than {@code limit} requests are in flight. Otherwise it may wait
+ * for up to {@code queueTimeout}, as long as fewer than {@code queueDepth} requests are already waiting. Anything
+ * beyond that is refused at once, so an overloaded class sheds load instead of tying up threads that other classes
+ * need. A released permit goes straight to the oldest waiter.
+ *
+ * <p>With a positive {@code latencyTarget} the limit adapts between {@code minConcurrent} and
+ * {@code maxConcurrent} (AIMD). A request slower than the target cuts the limit by 10%, at most once per target
+ * period so that one burst of slow responses counts once. A request within the target raises a limit that is
+ * currently full by {@code 1/limit}, which is about one per limit's worth of requests. Without a target the limit
+ * stays at {@code maxConcurrent}.
+ */
+public final class Bulkhead {
+
+    /** Multiplicative decrease applied when a request exceeds the latency target. */
+    static final double BACKOFF = 0.9;
+
+    private static final CompletableFuture<Boolean> GRANTED = CompletableFuture.completedFuture(true);
+
+    public record Settings(int maxConcurrent, int minConcurrent, int queueDepth, Duration queueTimeout,
+                           Duration latencyTarget, Duration retryAfter) {
+
+        public Settings {
+            if (minConcurrent < 0 || maxConcurrent < minConcurrent || queueDepth < 0) {
+                throw new IllegalArgumentException(
+                        "bulkhead needs 0 <= min-concurrent <= max-concurrent and queue-depth >= 0");
+            }
+        }
+    }
+
+    private final Settings settings;
+    private final long queueTimeoutNanos;
+    private final long latencyTargetNanos;
+    private final LongSupplier nanoTime;
+    private final ArrayDeque<CompletableFuture<Boolean>> waiters = new ArrayDeque<>();
+    private volatile double limit;
+    private volatile int inFlight;
+    private long lastDecrease;
+
+    public Bulkhead(Settings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    Bulkhead(Settings settings, LongSupplier nanoTime) {
+        this.settings = settings;
+        this.queueTimeoutNanos = settings.queueTimeout().toNanos();
+        this.latencyTargetNanos = settings.latencyTarget().toNanos();
+        this.nanoTime = nanoTime;
+        this.limit = settings.maxConcurrent();
+        this.lastDecrease = nanoTime.getAsLong() - latencyTargetNanos;
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+
+    /**
+     * Returns a future that completes with {@code true} once the request holds a permit, at once when one is free,
+     * or with {@code false} when it has waited {@code queueTimeout} in vain. Returns {@code null} when the request is
+     * refused outright because the queue is full. A waiter may give up early by completing the future with
+     * {@code false}; if that fails because it already completed with {@code true}, it holds a permit.
+     */
+    public CompletableFuture<Boolean> acquire() {
+        synchronized (this) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return GRANTED;
+            }
+            waiters.removeIf(CompletableFuture::isDone);
+            if (waiters.size() < settings.queueDepth()) {
+                CompletableFuture<Boolean> waiter = new CompletableFuture<>();
+                waiter.completeOnTimeout(false, queueTimeoutNanos, TimeUnit.NANOSECONDS);
+                waiters.add(waiter);
+                return waiter;
+            }
+            return null;
+        }
+    }
+
+    /** {@link #acquire()}, waiting on the calling thread; {@code false} means refused. */
+    public boolean acquireBlocking() {
+        CompletableFuture<Boolean> permit = acquire();
+        return permit != null && permit.join();
+    }
+
+    /**
+     * Returns a permit. {@code latencyNanos} is how long the request held it and feeds the adaptive limit; a negative
+     * value releases without adapting.
+     */
+    public void release(long latencyNanos) {
+        while (true) {
+            CompletableFuture<Boolean> next;
+            synchronized (this) {
+                if (latencyNanos >= 0) {
+                    adapt(latencyNanos);
+                    latencyNanos = -1;
+                }
+                next = inFlight <= (int) limit ? waiters.poll() : null;
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+            if (next.complete(true)) {
+                return;
+            }
+            // that waiter timed out or gave up; offer the permit to the next one
+        }
+    }
+
+    private void adapt(long latencyNanos) {
+        if (latencyTargetNanos <= 0) {
+            return;
+        }
+        if (latencyNanos > latencyTargetNanos) {
+            long now = nanoTime.getAsLong();
+            if (now - lastDecrease >= latencyTargetNanos) {
+                // never adapt down to 0: with nothing in flight, nothing would ever raise it again
+                limit = Math.max(Math.max(settings.minConcurrent(), 1), limit * BACKOFF);
+                lastDecrease = now;
+            }
+        } else if (inFlight >= (int) limit) {
+            limit = Math.min(settings.maxConcurrent(), limit + 1 / limit);
+        }
+    }
+
+    /** Current concurrency limit. */
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized int queued() {
+        waiters.removeIf(CompletableFuture::isDone);
+        return waiters.size();
+    }
+}
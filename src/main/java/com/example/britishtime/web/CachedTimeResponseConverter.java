@@ -0,0 +1,60 @@
+package com.example.britishtime.web;
+
+import com.example.britishtime.model.TimeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link TimeResponse} bodies straight from {@link SpokenTimeResponseCache} when possible,
+ * skipping Jackson entirely. Registered ahead of the default JSON converter by Spring Boot. The entry is resolved
+ * once per request, by the controller or by the first of the two calls here.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CachedTimeResponseConverter extends AbstractHttpMessageConverter<TimeResponse> {
+
+    private final SpokenTimeResponseCache cache;
+    private final ObjectMapper objectMapper;
+
+    public CachedTimeResponseConverter(SpokenTimeResponseCache cache, ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TimeResponse.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TimeResponse readInternal(Class<? extends TimeResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("TimeResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(TimeResponse response, MediaType contentType) {
+        SpokenTimeResponseCache.Entry entry = cache.resolve(response);
+        return entry != null ? (long) entry.json().length : null;
+    }
+
+    @Override
+    protected void writeInternal(TimeResponse response, HttpOutputMessage outputMessage) throws IOException {
+        SpokenTimeResponseCache.Entry entry = cache.resolve(response);
+        byte[] json = entry != null ? entry.json() : objectMapper.writeValueAsBytes(response);
+        outputMessage.getBody().write(json);
+    }
+}
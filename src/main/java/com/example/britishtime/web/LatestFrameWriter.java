@@ -0,0 +1,48 @@
+package com.example.britishtime.web;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Hands the frames of one {@link NowBroadcaster} subscriber to a blocking writer, in order and on at most one
+ * thread at a time, without ever blocking the broadcaster. A frame that arrives while an earlier one is still being
+ * written replaces any frame still waiting, so a slow client skips to the newest minute and is never sent an older
+ * frame after a newer one.
+ */
+public final class LatestFrameWriter implements Consumer<byte[]> {
+
+    private final Consumer<byte[]> writer;
+    private final Executor executor;
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /** Writes on a virtual thread, started when a frame arrives and ended once no frame is waiting. */
+    public LatestFrameWriter(Consumer<byte[]> writer) {
+        this(writer, Thread::startVirtualThread);
+    }
+
+    LatestFrameWriter(Consumer<byte[]> writer, Executor executor) {
+        this.writer = writer;
+        this.executor = executor;
+    }
+
+    @Override
+    public void accept(byte[] frame) {
+        pending.set(frame);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            for (byte[] frame; (frame = pending.getAndSet(null)) != null; ) {
+                writer.accept(frame);
+            }
+            draining.set(false);
+            // a frame set after the last getAndSet but before the flag was cleared found the drain still running
+        } while (pending.get() != null && draining.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.britishtime.web;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.service.TimeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * The current spoken time, for {@code /now} and its Server-Sent Events stream.
+ *
+ * <p>Subscribers are grouped into one channel per zone and locale. A single scheduler thread wakes at each minute
+ * boundary, converts the time once per channel that has subscribers, encodes it once as a complete SSE frame and
+ * hands that same array to every subscriber of the channel. Between ticks nothing runs on behalf of an idle
+ * subscriber. A new subscriber gets the current frame at once. Listeners are called on the scheduler thread and
+ * must not block; the stream endpoints hand the frame to the network without waiting for the write.
+ */
+@Component
+public class NowBroadcaster {
+
+    static final long MINUTE_MILLIS = 60_000;
+    private static final byte[] EVENT_PREFIX = "event: time\ndata: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EVENT_SUFFIX = "\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    /** Ends a subscription; closing twice is harmless. */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private record Key(ZoneId zone, SpokenLocale locale) {}
+
+    private final TimeService timeService;
+    private final SpokenTimeResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final Duration streamTimeout;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<Key, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private long publishedMinute = Long.MIN_VALUE;
+
+    @Autowired
+    public NowBroadcaster(TimeService timeService,
+                          SpokenTimeResponseCache responseCache,
+                          ObjectMapper objectMapper,
+                          SpokenTimeMetrics metrics,
+                          @Value("${spoken-time.now.stream-timeout:30m}") Duration streamTimeout) {
+        this(timeService, responseCache, objectMapper, metrics, streamTimeout, Clock.systemUTC(), true);
+    }
+
+    NowBroadcaster(TimeService timeService, SpokenTimeResponseCache responseCache, ObjectMapper objectMapper,
+                   SpokenTimeMetrics metrics, Duration streamTimeout, Clock clock, boolean schedule) {
+        this.timeService = timeService;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.streamTimeout = streamTimeout;
+        this.clock = clock;
+        metrics.nowSubscribers(subscribers::get);
+        if (schedule) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "spoken-time-now");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduleNextTick();
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /** The spoken time in {@code zone} at this moment. */
+    public TimeResponse now(ZoneId zone, SpokenLocale locale) {
+        return read(zone, locale).response();
+    }
+
+    /**
+     * The spoken time in {@code zone} and the whole seconds until it changes, for {@code Cache-Control: max-age},
+     * both from one read of the clock so the age never outlasts the phrase.
+     */
+    public Reading read(ZoneId zone, SpokenLocale locale) {
+        long millis = clock.millis();
+        return new Reading(timeService.toSpokenTime(millis, zone, locale),
+                (MINUTE_MILLIS - Math.floorMod(millis, MINUTE_MILLIS)) / 1000);
+    }
+
+    /** How long a stream stays open before it ends and the client reconnects. */
+    public Duration streamTimeout() {
+        return streamTimeout;
+    }
+
+    /**
+     * Sends {@code listener} the SSE frame for the current minute in {@code zone}, then the new frame at each minute
+     * boundary, until the subscription is closed.
+     */
+    public Subscription subscribe(ZoneId zone, SpokenLocale locale, Consumer<byte[]> listener) {
+        Key key = new Key(zone, locale);
+        while (true) {
+            Channel channel = channels.computeIfAbsent(key, Channel::new);
+            synchronized (channel) {
+                if (channel.closed) {
+                    continue;
+                }
+                channel.listeners.add(listener);
+                subscribers.incrementAndGet();
+                listener.accept(channel.frame(currentMinute()));
+            }
+            return new ChannelSubscription(channel, listener);
+        }
+    }
+
+    /** Number of open subscriptions. */
+    public int subscribers() {
+        return subscribers.get();
+    }
+
+    /** Publishes the frame of the minute that has just started to every subscriber. */
+    void tick() {
+        long minute = currentMinute();
+        if (minute <= publishedMinute) {
+            // woke up early, before the boundary
+            return;
+        }
+        publishedMinute = minute;
+        for (Channel channel : channels.values()) {
+            synchronized (channel) {
+                byte[] frame = channel.frame(minute);
+                for (Consumer<byte[]> listener : channel.listeners) {
+                    try {
+                        listener.accept(frame);
+                    } catch (RuntimeException e) {
+                        // a failing subscriber is closed by its own stream; the others still get the frame
+                    }
+                }
+            }
+        }
+    }
+
+    private void scheduleNextTick() {
+        long delay = MINUTE_MILLIS - Math.floorMod(clock.millis(), MINUTE_MILLIS);
+        scheduler.schedule(() -> {
+            try {
+                tick();
+            } finally {
+                if (!scheduler.isShutdown()) {
+                    scheduleNextTick();
+                }
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private long currentMinute() {
+        return Math.floorDiv(clock.millis(), MINUTE_MILLIS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private byte[] encode(TimeResponse response) {
+        SpokenTimeResponseCache.Entry entry = responseCache.lookup(response);
+        byte[] json;
+        try {
+            json = entry != null ? entry.json() : objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] frame = new byte[EVENT_PREFIX.length + json.length + EVENT_SUFFIX.length];
+        System.arraycopy(EVENT_PREFIX, 0, frame, 0, EVENT_PREFIX.length);
+        System.arraycopy(json, 0, frame, EVENT_PREFIX.length, json.length);
+        System.arraycopy(EVENT_SUFFIX, 0, frame, EVENT_PREFIX.length + json.length, EVENT_SUFFIX.length);
+        return frame;
+    }
+
+    /**
+     * Subscribers of one zone and locale, and the frame of the latest minute; guarded by its own monitor. The
+     * listener list is copy-on-write, so a listener may close its subscription while the frame is being handed out.
+     */
+    private final class Channel {
+
+        final Key key;
+        final List<Consumer<byte[]>> listeners = new CopyOnWriteArrayList<>();
+        boolean closed;
+        long minute = Long.MIN_VALUE;
+        byte[] frame;
+
+        Channel(Key key) {
+            this.key = key;
+        }
+
+        /** The frame for {@code minute}, converted and encoded at most once per minute. */
+        byte[] frame(long minute) {
+            if (minute > this.minute) {
+                frame = encode(timeService.toSpokenTime(minute * MINUTE_MILLIS, key.zone(), key.locale()));
+                this.minute = minute;
+            }
+            return frame;
+        }
+    }
+
+    private final class ChannelSubscription implements Subscription {
+
+        private final Channel channel;
+        private final Consumer<byte[]> listener;
+        private boolean closed;
+
+        ChannelSubscription(Channel channel, Consumer<byte[]> listener) {
+            this.channel = channel;
+            this.listener = listener;
+        }
+
+        @Override
+        public void close() {
+            synchronized (channel) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                channel.listeners.remove(listener);
+                subscribers.decrementAndGet();
+                if (channel.listeners.isEmpty()) {
+                    channel.closed = true;
+                    channels.remove(channel.key, channel);
+                }
+            }
+        }
+    }
+
+    /** A spoken time and how many whole seconds it stays current. */
+    public record Reading(TimeResponse response, long secondsUntilNextMinute) {
+    }
+}
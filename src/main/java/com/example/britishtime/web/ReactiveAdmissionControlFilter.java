@@ -0,0 +1,94 @@
+package com.example.britishtime.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * WebFlux side of {@link AdmissionControl}. A queued request waits without blocking the event loop and
+ * gives up after the class's {@code queue-timeout}. The permit is held until the response has been written or
+ * the exchange is cancelled.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ReactiveAdmissionControlFilter implements WebFilter {
+
+    private final AdmissionControl admission;
+
+    public ReactiveAdmissionControlFilter(AdmissionControl admission) {
+        this.admission = admission;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        AdmissionControl.EndpointClass endpointClass =
+                admission.classify(request.getMethod().name(), pathToMatch(request));
+        if (endpointClass == null) {
+            return chain.filter(exchange);
+        }
+        Bulkhead bulkhead = admission.bulkhead(endpointClass);
+        CompletableFuture<Boolean> permit = bulkhead.acquire();
+        if (permit == null) {
+            return reject(exchange, endpointClass);
+        }
+        if (permit.isDone() && permit.join()) {
+            return proceed(exchange, chain, bulkhead);
+        }
+        // Exactly one of the cancel hook and the admitted request may own a granted permit.
+        AtomicBoolean owned = new AtomicBoolean();
+        return Mono.fromFuture(permit, true)
+                .doOnCancel(() -> {
+                    if (!permit.complete(false) && permit.join() && owned.compareAndSet(false, true)) {
+                        bulkhead.release(-1);
+                    }
+                })
+                .flatMap(granted -> {
+                    if (!granted) {
+                        return reject(exchange, endpointClass);
+                    }
+                    return owned.compareAndSet(false, true) ? proceed(exchange, chain, bulkhead) : Mono.empty();
+                });
+    }
+
+    private static Mono<Void> proceed(ServerWebExchange exchange, WebFilterChain chain, Bulkhead bulkhead) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return chain.filter(exchange).doFinally(signal -> bulkhead.release(System.nanoTime() - start));
+        });
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, AdmissionControl.EndpointClass endpointClass) {
+        byte[] body = admission.reject(endpointClass);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, admission.retryAfter(endpointClass));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+
+    /** The path within the application with {@code ;} parameters removed, as the handler mappings match it. */
+    private static String pathToMatch(ServerHttpRequest request) {
+        StringBuilder path = new StringBuilder();
+        for (PathContainer.Element element : request.getPath().pathWithinApplication().elements()) {
+            path.append(element instanceof PathContainer.PathSegment segment ? segment.valueToMatch() : element.value());
+        }
+        return path.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.britishtime.web;
+
+import com.example.britishtime.exception.UnsupportedLocaleException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.service.TimeParser;
+import com.example.britishtime.service.TimeRange;
+import com.example.britishtime.service.TimeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Fully encoded UTF-8 JSON, plus a strong ETag, for each of the 1440 responses per locale that
+ * {@link TimeService} hands out. Entries are matched by identity, in one identity-hash lookup, so anything that is
+ * not one of those shared instances falls back to Jackson. On the servlet stack, {@link #resolve} remembers the
+ * entry in the current request, so the controller and the message converter look it up once between them.
+ */
+@Component
+public class SpokenTimeResponseCache {
+
+    public record Entry(TimeResponse response, byte[] json, String etag) {}
+
+    private static final String ENTRY_ATTRIBUTE = SpokenTimeResponseCache.class.getName() + ".entry";
+
+    private final List<SpokenLocale> locales;
+    private final Entry[][] entries;
+    private final IdentityHashMap<TimeResponse, Entry> byResponse = new IdentityHashMap<>();
+
+    public SpokenTimeResponseCache(TimeService timeService, ObjectMapper objectMapper) throws JsonProcessingException {
+        locales = timeService.getLocales();
+        entries = new Entry[locales.size()][TimeParser.MINUTES_PER_DAY];
+        for (int slot = 0; slot < locales.size(); slot++) {
+            for (int minuteOfDay = 0; minuteOfDay < TimeParser.MINUTES_PER_DAY; minuteOfDay++) {
+                TimeResponse response = timeService.response(minuteOfDay, locales.get(slot));
+                byte[] json = objectMapper.writeValueAsBytes(response);
+                Entry entry = new Entry(response, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+                entries[slot][minuteOfDay] = entry;
+                byResponse.put(response, entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached encoding of {@code response}, or {@code null} if it is not a cached instance.
+     */
+    public Entry lookup(TimeResponse response) {
+        return response != null ? byResponse.get(response) : null;
+    }
+
+    /**
+     * Like {@link #lookup}, but the entry found is kept as an attribute of the current request, if there is one,
+     * and returned from there by later calls for the same response.
+     */
+    public Entry resolve(TimeResponse response) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return lookup(response);
+        }
+        if (request.getAttribute(ENTRY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Entry entry
+                && entry.response() == response) {
+            return entry;
+        }
+        Entry entry = lookup(response);
+        if (entry != null) {
+            request.setAttribute(ENTRY_ATTRIBUTE, entry, RequestAttributes.SCOPE_REQUEST);
+        }
+        return entry;
+    }
+
+    /**
+     * Writes slots {@code [from, to)} of {@code range} from the cached encodings, either as part of one JSON array
+     * (opened at slot 0, closed at the last slot) or as NDJSON lines. Nothing is allocated per slot.
+     */
+    public void writeRange(TimeRange range, SpokenLocale locale, int from, int to, boolean ndjson,
+                           OutputStream out) throws IOException {
+        Entry[] localeEntries = entries[slot(locale)];
+        if (!ndjson && from == 0) {
+            out.write('[');
+        }
+        for (int index = from; index < to; index++) {
+            if (!ndjson && index > 0) {
+                out.write(',');
+            }
+            out.write(localeEntries[range.minuteOfDay(index)].json());
+            if (ndjson) {
+                out.write('\n');
+            }
+        }
+        if (!ndjson && to == range.count()) {
+            out.write(']');
+        }
+    }
+
+    private int slot(SpokenLocale locale) {
+        int slot = locales.indexOf(locale);
+        if (slot < 0) {
+            throw new UnsupportedLocaleException("No formatter registered for " + locale.key());
+        }
+        return slot;
+    }
+}
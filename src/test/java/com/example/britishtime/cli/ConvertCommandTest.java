@@ -0,0 +1,101 @@
+package com.example.britishtime.cli;
+
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.UploadErrorMode;
+import com.example.britishtime.service.MappedFileConverter;
+import com.example.britishtime.service.TimeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConvertCommandTest {
+
+    private final ByteArrayOutputStream console = new ByteArrayOutputStream();
+    private final ConvertCommand command = new ConvertCommand(
+            new MappedFileConverter(new TimeService(new TimeFormatterFactory()), new ObjectMapper(), 1 << 16),
+            UploadErrorMode.ABORT, new PrintStream(console, true, StandardCharsets.UTF_8));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldConvertNextToInputAndPrintSummary() throws Exception {
+        Path input = Files.writeString(dir.resolve("times.csv"), "07:30,\n09:45");
+
+        command.run(new DefaultApplicationArguments("convert", "--input=" + input, "--locale=de"));
+
+        assertEquals(0, command.getExitCode());
+        assertTrue(Files.readString(dir.resolve("times.csv.ndjson")).contains("\"spoken\":\"halb acht\""));
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains("2 cells (0 invalid)"));
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains("MB/s"));
+    }
+
+    @Test
+    void shouldExitWithOneWhenAborted() throws Exception {
+        Path input = Files.writeString(dir.resolve("times.csv"), "07:30,bad");
+
+        command.run(new DefaultApplicationArguments("convert", "--input=" + input, "--output=" + dir.resolve("out.ndjson")));
+
+        assertEquals(1, command.getExitCode());
+    }
+
+    @Test
+    void shouldPrintUsageWithoutInput() throws Exception {
+        command.run(new DefaultApplicationArguments("convert"));
+
+        assertEquals(2, command.getExitCode());
+        assertTrue(console.toString(StandardCharsets.UTF_8).startsWith(ConvertCommand.USAGE));
+    }
+
+    @Test
+    void shouldPrintUsageForUnknownErrorMode() throws Exception {
+        Path input = Files.writeString(dir.resolve("times.csv"), "07:30");
+
+        command.run(new DefaultApplicationArguments("convert", "--input=" + input, "--on-error=skip"));
+
+        assertEquals(2, command.getExitCode());
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains("unknown --on-error: skip"));
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains(ConvertCommand.USAGE));
+        assertFalse(Files.exists(dir.resolve("times.csv.ndjson")));
+    }
+
+    @Test
+    void shouldPrintUsageForUnknownLocale() throws Exception {
+        Path input = Files.writeString(dir.resolve("times.csv"), "07:30");
+
+        command.run(new DefaultApplicationArguments("convert", "--input=" + input, "--locale=klingon"));
+
+        assertEquals(2, command.getExitCode());
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains("unknown --locale: klingon"));
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains(ConvertCommand.USAGE));
+        assertFalse(Files.exists(dir.resolve("times.csv.ndjson")));
+    }
+
+    @Test
+    void shouldPrintUsageForMissingInputFile() throws Exception {
+        Path input = dir.resolve("missing.csv");
+
+        command.run(new DefaultApplicationArguments("convert", "--input=" + input));
+
+        assertEquals(2, command.getExitCode());
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains("no such file: " + input));
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains(ConvertCommand.USAGE));
+    }
+
+    @Test
+    void shouldIgnoreOtherInvocations() throws Exception {
+        command.run(new DefaultApplicationArguments("--input=whatever.csv"));
+
+        assertEquals(0, command.getExitCode());
+        assertEquals("", console.toString(StandardCharsets.UTF_8));
+    }
+}
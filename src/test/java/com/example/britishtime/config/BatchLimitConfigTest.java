@@ -0,0 +1,61 @@
+package com.example.britishtime.config;
+
+import com.example.britishtime.exception.BatchTooLargeException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLimitConfigTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new BatchLimitConfig().batchLimitModule(100));
+
+    @Test
+    void shouldReadArraysUpToTheLimit() throws Exception {
+        String body = "[" + "\"07:30\",".repeat(99) + "{\"hour\": 9, \"minute\": 45}]";
+
+        List<Object> items = mapper.readValue(body, new TypeReference<>() { });
+
+        assertEquals(100, items.size());
+    }
+
+    @Test
+    void shouldStopReadingAtTheFirstItemPastTheLimit() {
+        EndlessArray body = new EndlessArray("{\"hour\": 9, \"minute\": 45},");
+
+        BatchTooLargeException ex = assertThrows(BatchTooLargeException.class,
+                () -> mapper.readValue(body, new TypeReference<List<Object>>() { }));
+        assertEquals("batch must not contain more than 100 items", ex.getMessage());
+        assertTrue(body.served < 64 * 1024, "read " + body.served + " bytes");
+    }
+
+    @Test
+    void shouldCountStringItemsToo() {
+        EndlessArray body = new EndlessArray("\"07:30\",");
+
+        assertThrows(BatchTooLargeException.class, () -> mapper.readValue(body, new TypeReference<List<String>>() { }));
+        assertTrue(body.served < 64 * 1024, "read " + body.served + " bytes");
+    }
+
+    /** {@code [} followed by {@code item} forever. */
+    private static final class EndlessArray extends InputStream {
+
+        private final byte[] item;
+        private long served;
+
+        EndlessArray(String item) {
+            this.item = item.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int read() {
+            long position = served++;
+            return position == 0 ? '[' : item[(int) ((position - 1) % item.length)];
+        }
+    }
+}
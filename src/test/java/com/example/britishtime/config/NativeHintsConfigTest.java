@@ -0,0 +1,50 @@
+package com.example.britishtime.config;
+
+import com.example.britishtime.controller.TimeController;
+import com.example.britishtime.exception.RestExceptionHandler;
+import com.example.britishtime.model.DictionaryResponse;
+import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.model.UploadErrorMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBindingProcessor;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.util.ClassUtils;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void shouldRegisterApiTypesForBinding() {
+        RegisterReflectionForBindingProcessor processor = new RegisterReflectionForBindingProcessor();
+        processor.registerReflectionHints(hints.reflection(), NativeHintsConfig.class);
+        processor.registerReflectionHints(hints.reflection(), RestExceptionHandler.class);
+
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(TimeResponse.class, "spoken").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(DictionaryResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UploadErrorMode.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.example.britishtime.exception.RestExceptionHandler$ErrorPayload")).test(hints));
+    }
+
+    @Test
+    void shouldShipLocaleRulesFiles() {
+        new NativeHintsConfig.LocaleRulesHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource("spoken-time/locales/german.properties").test(hints));
+    }
+
+    @Test
+    void shouldMakeControllerAnnotationsReadableForSpringdoc() {
+        assumeTrue(ClassUtils.isPresent(NativeHintsConfig.SPRINGDOC_MARKER, getClass().getClassLoader()),
+                "built with -Dno-springdoc");
+        new NativeHintsConfig.SpringDocHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TimeController.class).test(hints));
+    }
+}
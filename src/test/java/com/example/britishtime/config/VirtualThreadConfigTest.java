@@ -0,0 +1,46 @@
+package com.example.britishtime.config;
+
+import com.example.britishtime.BritishSpokenTimeApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BritishSpokenTimeApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spoken-time.execution.virtual-threads=true")
+class VirtualThreadConfigTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void shouldHandleRequestsOnVirtualThreads() throws Exception {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        Executor executor = webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+
+        assertTrue(runsOnVirtualThread(executor));
+    }
+
+    @Test
+    void shouldRunAsyncResponsesOnVirtualThreads() throws Exception {
+        assertTrue(runsOnVirtualThread(applicationTaskExecutor));
+    }
+
+    private static boolean runsOnVirtualThread(Executor executor) throws Exception {
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        executor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+        return virtual.get(5, TimeUnit.SECONDS);
+    }
+}
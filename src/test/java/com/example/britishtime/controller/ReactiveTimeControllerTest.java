@@ -0,0 +1,327 @@
+package com.example.britishtime.controller;
+
+import com.example.britishtime.BritishSpokenTimeApplication;
+import com.example.britishtime.model.JobState;
+import com.example.britishtime.model.JobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BritishSpokenTimeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveTimeControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    @DisplayName("Should run on Netty")
+    void shouldRunOnNetty() {
+        assertEquals("NettyWebServer", context.getWebServer().getClass().getSimpleName());
+    }
+
+    @Test
+    @DisplayName("Should convert a query parameter with ETag and Cache-Control")
+    void shouldConvertQueryParameter() {
+        client.get().uri("/api/v1/spoken-time?time=07:30")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectHeader().value("Cache-Control", containsString("immutable"))
+                .expectBody()
+                .jsonPath("$.original").isEqualTo("07:30")
+                .jsonPath("$.spoken").isEqualTo("half past seven");
+    }
+
+    @Test
+    @DisplayName("Should convert path variables in the requested locale")
+    void shouldConvertPathVariables() {
+        client.get().uri("/api/v1/spoken-time/9/45?locale=de")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.spoken").isEqualTo("Viertel vor zehn");
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid time with invalid_time")
+    void shouldRejectInvalidTime() {
+        client.get().uri("/api/v1/spoken-time?time=25:99")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("invalid_time")
+                .jsonPath("$.message").isEqualTo("hour must be between 0 and 23");
+    }
+
+    @Test
+    @DisplayName("Should convert a JSON batch")
+    void shouldConvertBatch() {
+        client.post().uri("/api/v1/spoken-time/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[\"07:30\", {\"hour\": 9, \"minute\": 45}, \"25:99\"]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[1].spoken").isEqualTo("quarter to ten")
+                .jsonPath("$[2].error").isEqualTo("hour must be between 0 and 23");
+    }
+
+    @Test
+    @DisplayName("Should reject an oversized or null batch with a 4xx")
+    void shouldRejectOversizedAndNullBatches() {
+        client.post().uri("/api/v1/spoken-time/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[" + String.join(",", Collections.nCopies(10_001, "\"07:30\"")) + "]")
+                .exchange()
+                .expectStatus().isEqualTo(413)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("batch_too_large");
+
+        client.post().uri("/api/v1/spoken-time/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("null")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("invalid_request");
+    }
+
+    @Test
+    @DisplayName("Should convert a spoken phrase back to HH:mm")
+    void shouldReverseSpokenPhrase() {
+        client.get().uri("/api/v1/spoken-time/reverse?phrase={phrase}&meridiem=pm", "half past seven")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.time").isEqualTo("19:30");
+    }
+
+    @Test
+    @DisplayName("Should stream an uploaded CSV back as a JSON array")
+    void shouldUploadCsvAsJsonArray() {
+        client.post().uri("/api/v1/spoken-time/upload")
+                .body(BodyInserters.fromMultipartData(csv("07:30,09:45,12:00\n00:00,01:15,05:20")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(6)
+                .jsonPath("$[2].spoken").isEqualTo("noon")
+                .jsonPath("$[3].spoken").isEqualTo("midnight");
+    }
+
+    @Test
+    @DisplayName("Should reject an upload without any cell")
+    void shouldRejectEmptyUpload() {
+        client.post().uri("/api/v1/spoken-time/upload")
+                .body(BodyInserters.fromMultipartData(csv(" \n")))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("invalid_file");
+    }
+
+    @Test
+    @DisplayName("Should stream NDJSON and stop at the first invalid cell by default")
+    void shouldAbortNdjsonStreamOnFirstError() {
+        client.post().uri("/api/v1/spoken-time/upload")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(BodyInserters.fromMultipartData(csv("07:30,bad,09:45")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .isEqualTo("{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                        + "{\"original\":\"bad\",\"error\":\"time must be in HH:mm format\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should report invalid cells inline with stream=true&onError=inline")
+    void shouldStreamInlineErrors() {
+        client.post().uri("/api/v1/spoken-time/upload?stream=true&onError=inline")
+                .body(BodyInserters.fromMultipartData(csv("25:99,07:30")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(TimeController.NDJSON_VALUE)
+                .expectBody(String.class)
+                .isEqualTo("{\"original\":\"25:99\",\"error\":\"hour must be between 0 and 23\"}\n"
+                        + "{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should report a cell longer than 256 bytes inline after valid rows")
+    void shouldStreamOversizedCellAsInlineError() {
+        String longCell = "7".repeat(20_000);
+        client.post().uri("/api/v1/spoken-time/upload?stream=true&onError=inline")
+                .body(BodyInserters.fromMultipartData(csv("07:30\n09:45\n" + longCell + "\n12:00")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .isEqualTo("{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                        + "{\"original\":\"09:45\",\"spoken\":\"quarter to ten\"}\n"
+                        + "{\"original\":\"" + longCell.substring(0, 256) + "\",\"error\":\"Cell longer than 256 bytes\"}\n"
+                        + "{\"original\":\"12:00\",\"spoken\":\"noon\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should stream a range across several buffers as one JSON array")
+    void shouldStreamRange() {
+        client.get().uri("/api/v1/spoken-time/range?start=12:00&end=11:59")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1440)
+                .jsonPath("$[0].spoken").isEqualTo("noon")
+                .jsonPath("$[720].spoken").isEqualTo("midnight");
+    }
+
+    @Test
+    @DisplayName("Should convert packed minutes to length-prefixed phrases")
+    void shouldConvertBinaryUpload() {
+        byte[] spoken = "noon".getBytes(StandardCharsets.UTF_8);
+        client.post().uri("/api/v1/spoken-time/upload")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(new byte[] {0x02, (byte) 0xD0, 0x05})
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class)
+                .isEqualTo(new byte[] {0, (byte) spoken.length, spoken[0], spoken[1], spoken[2], spoken[3],
+                        (byte) 0xFF, (byte) 0xFF});
+    }
+
+    @Test
+    @DisplayName("Should return dictionary-encoded upload results with dictionary=true")
+    void shouldUploadCsvAsDictionary() {
+        client.post().uri("/api/v1/spoken-time/upload?dictionary=true&locale=de")
+                .body(BodyInserters.fromMultipartData(csv("07:30,09:45\n07:30")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.dictionary.length()").isEqualTo(2)
+                .jsonPath("$.dictionary[1].spoken").isEqualTo("Viertel vor zehn")
+                .jsonPath("$.indices.length()").isEqualTo(3)
+                .jsonPath("$.indices[1]").isEqualTo(1)
+                .jsonPath("$.indices[2]").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should convert a batch of instants in a time zone")
+    void shouldConvertInstantBatch() {
+        client.post().uri("/api/v1/spoken-time/instant/batch?zone=America/New_York")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[1719815400000, \"x\"]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].original").isEqualTo("02:30")
+                .jsonPath("$[1].error").isEqualTo("instant must be epoch milliseconds or an ISO-8601 timestamp");
+    }
+
+    @Test
+    @DisplayName("Should stream an uploaded CSV of instants as NDJSON in the requested zone")
+    void shouldStreamUploadedInstants() {
+        client.post().uri("/api/v1/spoken-time/instant/upload?zone=America/New_York")
+                .body(BodyInserters.fromMultipartData(csv("1719815400000, yesterday")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .isEqualTo("{\"original\":\"02:30\",\"spoken\":\"half past two\"}\n"
+                        + "{\"original\":\"yesterday\",\"error\":\"instant must be epoch milliseconds or an ISO-8601 timestamp\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should serve the current time, cacheable until the minute changes")
+    void shouldServeCurrentTime() {
+        client.get().uri("/api/v1/spoken-time/now?zone=UTC")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value("Cache-Control", containsString("public"))
+                .expectHeader().exists("ETag")
+                .expectBody()
+                .jsonPath("$.spoken").exists();
+    }
+
+    @Test
+    @DisplayName("Should stream the current time as Server-Sent Events")
+    void shouldStreamCurrentTime() {
+        ServerSentEvent<String> event = client.get().uri("/api/v1/spoken-time/now/stream?zone=Europe/London")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .getResponseBody()
+                .blockFirst(Duration.ofSeconds(5));
+
+        assertNotNull(event);
+        assertEquals("time", event.event());
+        assertTrue(event.data().contains("\"spoken\""), event.data());
+    }
+
+    @Test
+    @DisplayName("Should convert an uploaded CSV as a background job and serve the result")
+    void shouldRunConversionJob() throws Exception {
+        JobStatus submitted = client.post().uri("/api/v1/spoken-time/jobs?locale=de")
+                .body(BodyInserters.fromMultipartData(csv("07:30\n09:45")))
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().value("Location", containsString("/api/v1/spoken-time/jobs/"))
+                .expectBody(JobStatus.class)
+                .returnResult().getResponseBody();
+
+        JobStatus status = submitted;
+        for (int i = 0; i < 500 && status.state() != JobState.SUCCEEDED; i++) {
+            Thread.sleep(10);
+            status = client.get().uri("/api/v1/spoken-time/jobs/" + submitted.id())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(JobStatus.class)
+                    .returnResult().getResponseBody();
+        }
+        assertEquals(JobState.SUCCEEDED, status.state());
+
+        client.get().uri("/api/v1/spoken-time/jobs/" + submitted.id() + "/result")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(TimeController.NDJSON_VALUE)
+                .expectBody(String.class)
+                .isEqualTo("{\"original\":\"07:30\",\"spoken\":\"halb acht\"}\n"
+                        + "{\"original\":\"09:45\",\"spoken\":\"Viertel vor zehn\"}\n");
+    }
+
+    private static MultiValueMap<String, HttpEntity<?>> csv(String content) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("file", new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "times.csv";
+            }
+        }).contentType(MediaType.TEXT_PLAIN);
+        return builder.build();
+    }
+}
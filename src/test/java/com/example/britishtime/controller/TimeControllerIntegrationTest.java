@@ -1,6 +1,7 @@
 package com.example.britishtime.controller;
 
 import com.example.britishtime.BritishSpokenTimeApplication;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,12 +10,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(classes = BritishSpokenTimeApplication.class)
@@ -93,6 +104,20 @@ class TimeControllerIntegrationTest {
                 .andExpect(jsonPath("$[3].spoken", containsString("midnight")));
     }
 
+    @Test
+    @DisplayName("Should accept quoted cells and CRLF line breaks in an uploaded CSV")
+    void shouldProcessQuotedCsvCells() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "times.csv", "text/csv",
+                "\"07:30\", \"9:45\"\r\n 12:00 ,\r\n".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/api/v1/spoken-time/upload").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].spoken", is("half past seven")))
+                .andExpect(jsonPath("$[1].original", is("09:45")))
+                .andExpect(jsonPath("$[2].spoken", is("noon")));
+    }
+
     @Test
     @DisplayName("Should return error when CSV file is invalid or unreadable")
     void shouldReturnErrorForInvalidCsv() throws Exception {
@@ -111,4 +136,465 @@ class TimeControllerIntegrationTest {
                 .andExpect(jsonPath("$.code", is("invalid_file")))
                 .andExpect(jsonPath("$.message", containsString("Invalid CSV format")));
     }
+
+    @Test
+    @DisplayName("Should convert an uploaded CSV as a background job and serve the result")
+    void shouldRunConversionJob() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "times.csv", "text/csv", "07:30, 09:45\n25:99\n12:00".getBytes(StandardCharsets.UTF_8));
+
+        String body = mockMvc.perform(multipart("/api/v1/spoken-time/jobs")
+                        .file(file)
+                        .param("onError", "inline"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith("/api/v1/spoken-time/jobs/")))
+                .andExpect(jsonPath("$.state", oneOf("QUEUED", "RUNNING", "SUCCEEDED")))
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(body, "$.id");
+
+        String state = "QUEUED";
+        for (int i = 0; i < 500 && !state.equals("SUCCEEDED"); i++) {
+            Thread.sleep(10);
+            state = JsonPath.read(mockMvc.perform(get("/api/v1/spoken-time/jobs/" + id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(), "$.state");
+        }
+        mockMvc.perform(get("/api/v1/spoken-time/jobs/" + id))
+                .andExpect(jsonPath("$.state", is("SUCCEEDED")))
+                .andExpect(jsonPath("$.progress", is(1.0)))
+                .andExpect(jsonPath("$.cells", is(4)))
+                .andExpect(jsonPath("$.invalid", is(1)));
+
+        mockMvc.perform(get("/api/v1/spoken-time/jobs/" + id + "/result"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TimeController.NDJSON_VALUE))
+                .andExpect(content().string(
+                        "{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                                + "{\"original\":\"09:45\",\"spoken\":\"quarter to ten\"}\n"
+                                + "{\"original\":\"25:99\",\"error\":\"hour must be between 0 and 23\"}\n"
+                                + "{\"original\":\"12:00\",\"spoken\":\"noon\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty job upload and unknown job ids")
+    void shouldRejectEmptyJobAndUnknownId() throws Exception {
+        MockMultipartFile empty = new MockMultipartFile("file", "times.csv", "text/csv", new byte[0]);
+
+        mockMvc.perform(multipart("/api/v1/spoken-time/jobs").file(empty))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("invalid_file")));
+        mockMvc.perform(get("/api/v1/spoken-time/jobs/missing/result"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code", is("unknown_job")));
+    }
+
+    @Test
+    @DisplayName("Should stream one NDJSON record per time when asked for application/x-ndjson")
+    void shouldStreamCsvAsNdjson() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "times.csv", "text/csv", "07:30, 09:45\n12:00".getBytes(StandardCharsets.UTF_8));
+
+        MvcResult result = mockMvc.perform(multipart("/api/v1/spoken-time/upload")
+                        .file(file)
+                        .accept(TimeController.NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TimeController.NDJSON_VALUE))
+                .andExpect(content().string(
+                        "{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                                + "{\"original\":\"09:45\",\"spoken\":\"quarter to ten\"}\n"
+                                + "{\"original\":\"12:00\",\"spoken\":\"noon\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should stream an uploaded CSV of instants as NDJSON in the requested zone")
+    void shouldStreamUploadedInstants() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "instants.csv", "text/csv",
+                "1719815400000, yesterday\n2024-12-24T18:00:00Z".getBytes(StandardCharsets.UTF_8));
+
+        MvcResult result = mockMvc.perform(multipart("/api/v1/spoken-time/instant/upload")
+                        .file(file)
+                        .param("zone", "America/New_York"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TimeController.NDJSON_VALUE))
+                .andExpect(content().string(
+                        "{\"original\":\"02:30\",\"spoken\":\"half past two\"}\n"
+                                + "{\"original\":\"yesterday\",\"error\":\"instant must be epoch milliseconds or an ISO-8601 timestamp\"}\n"
+                                + "{\"original\":\"13:00\",\"spoken\":\"one o'clock\"}\n"));
+
+        mockMvc.perform(multipart("/api/v1/spoken-time/instant/upload")
+                        .file(file)
+                        .param("zone", "Europe/Londres"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("unsupported_zone")));
+    }
+
+    @Test
+    @DisplayName("Should report invalid cells inline and keep streaming when onError=inline")
+    void shouldStreamInlineErrors() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "times.csv", "text/csv", "25:99,07:30".getBytes(StandardCharsets.UTF_8));
+
+        MvcResult result = mockMvc.perform(multipart("/api/v1/spoken-time/upload")
+                        .file(file)
+                        .param("stream", "true")
+                        .param("onError", "inline"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "{\"original\":\"25:99\",\"error\":\"hour must be between 0 and 23\"}\n"
+                                + "{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should report a cell longer than 256 bytes inline after valid rows and keep streaming")
+    void shouldStreamOversizedCellAsInlineError() throws Exception {
+        String longCell = "7".repeat(1000);
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "times.csv", "text/csv", ("07:30\n09:45\n" + longCell + "\n12:00").getBytes(StandardCharsets.UTF_8));
+
+        MvcResult result = mockMvc.perform(multipart("/api/v1/spoken-time/upload")
+                        .file(file)
+                        .param("onError", "inline")
+                        .accept(TimeController.NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                                + "{\"original\":\"09:45\",\"spoken\":\"quarter to ten\"}\n"
+                                + "{\"original\":\"" + longCell.substring(0, 256)
+                                + "\",\"error\":\"Cell longer than 256 bytes\"}\n"
+                                + "{\"original\":\"12:00\",\"spoken\":\"noon\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should end the stream at the first invalid cell by default")
+    void shouldAbortStreamOnFirstError() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "times.csv", "text/csv", "07:30,bad,09:45".getBytes(StandardCharsets.UTF_8));
+
+        MvcResult result = mockMvc.perform(multipart("/api/v1/spoken-time/upload")
+                        .file(file)
+                        .accept(TimeController.NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                                + "{\"original\":\"bad\",\"error\":\"time must be in HH:mm format\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should convert a JSON batch of strings and objects in order with per-item errors")
+    void shouldConvertBatchInOrder() throws Exception {
+        mockMvc.perform(post("/api/v1/spoken-time/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"07:30\", {\"hour\": 9, \"minute\": 45}, \"25:99\", {\"hour\": 10, \"minute\": 70}, null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)))
+                .andExpect(jsonPath("$[0].spoken", is("half past seven")))
+                .andExpect(jsonPath("$[1].original", is("09:45")))
+                .andExpect(jsonPath("$[1].spoken", is("quarter to ten")))
+                .andExpect(jsonPath("$[2].original", is("25:99")))
+                .andExpect(jsonPath("$[2].error", is("hour must be between 0 and 23")))
+                .andExpect(jsonPath("$[2].spoken").doesNotExist())
+                .andExpect(jsonPath("$[3].error", is("minute must be between 0 and 59")))
+                .andExpect(jsonPath("$[4].error", is("time parameter is required")));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than the configured maximum")
+    void shouldRejectOversizedBatch() throws Exception {
+        String body = "[" + String.join(",", Collections.nCopies(10_001, "\"07:30\"")) + "]";
+
+        mockMvc.perform(post("/api/v1/spoken-time/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.code", is("batch_too_large")));
+    }
+
+    @Test
+    @DisplayName("Should answer a null batch body with 400")
+    void shouldRejectNullBatchBody() throws Exception {
+        for (String path : List.of("/batch", "/reverse/batch", "/instant/batch?zone=UTC")) {
+            mockMvc.perform(post("/api/v1/spoken-time" + path)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("null"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is("invalid_request")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve GET responses with a strong ETag and answer If-None-Match with 304")
+    void shouldSupportConditionalGet() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/spoken-time/9/45"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"original\":\"09:45\",\"spoken\":\"quarter to ten\"}", true))
+                .andExpect(header().string("Cache-Control", containsString("max-age=31536000")))
+                .andExpect(header().string("ETag", startsWith("\"")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // same time through the other GET endpoint shares the same cached entry
+        mockMvc.perform(get("/api/v1/spoken-time").param("time", "9:45")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldConvertToGermanWhenLocaleIsGiven() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time").param("time", "07:30").param("locale", "de"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spoken", is("halb acht")));
+
+        mockMvc.perform(get("/api/v1/spoken-time/9/45").param("locale", "german"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spoken", is("Viertel vor zehn")));
+    }
+
+    @Test
+    void shouldConvertToARegionalVariantDeclaredAsRules() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time").param("time", "22:30").param("locale", "british-colloquial"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spoken", is("half ten")));
+    }
+
+    @Test
+    void shouldReturnBadRequestForUnknownLocale() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time").param("time", "07:30").param("locale", "klingon"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("unsupported_locale")));
+    }
+
+    @Test
+    @DisplayName("Should convert a spoken phrase back to HH:mm using the meridiem hint")
+    void shouldReverseSpokenPhrase() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time/reverse").param("phrase", "Quarter to ten").param("meridiem", "pm"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"phrase\":\"Quarter to ten\",\"time\":\"21:45\"}", true));
+
+        mockMvc.perform(get("/api/v1/spoken-time/reverse").param("phrase", "lunchtime"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("unrecognised_phrase")));
+    }
+
+    @Test
+    @DisplayName("Should convert a batch of phrases with per-item errors")
+    void shouldReverseBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/spoken-time/reverse/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"half past seven pm\", \"halb acht\", \"quarter past four\"]")
+                        .param("locale", "british"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].time", is("19:30")))
+                .andExpect(jsonPath("$[1].error", is("phrase is not a recognised spoken time")))
+                .andExpect(jsonPath("$[2].time", is("04:15")));
+    }
+
+    @Test
+    @DisplayName("Should stream a whole day as a JSON array")
+    void shouldStreamWholeDayRange() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/spoken-time/range")
+                        .param("start", "00:00").param("end", "23:59"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(jsonPath("$.length()", is(1440)))
+                .andExpect(jsonPath("$[0].spoken", is("midnight")))
+                .andExpect(jsonPath("$[720].spoken", is("noon")))
+                .andExpect(jsonPath("$[1439].original", is("23:59")));
+    }
+
+    @Test
+    @DisplayName("Should wrap a range past midnight and stream NDJSON")
+    void shouldStreamWrappingRangeAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/spoken-time/range")
+                        .param("start", "23:30").param("end", "00:30").param("step", "30")
+                        .accept(TimeController.NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TimeController.NDJSON_VALUE))
+                .andExpect(content().string(
+                        "{\"original\":\"23:30\",\"spoken\":\"half past eleven\"}\n"
+                                + "{\"original\":\"00:00\",\"spoken\":\"midnight\"}\n"
+                                + "{\"original\":\"00:30\",\"spoken\":\"half past twelve\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should reject a range with an invalid step")
+    void shouldRejectInvalidRangeStep() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time/range")
+                        .param("start", "07:00").param("end", "08:00").param("step", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("invalid_time")))
+                .andExpect(jsonPath("$.message", is("step must be between 1 and 1440 minutes")));
+    }
+
+    @Test
+    @DisplayName("Should convert packed minutes to length-prefixed phrases")
+    void shouldConvertBinaryUpload() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/spoken-time/upload")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[] {0x01, (byte) 0xC2, 0x7F, 0x7F}))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] spoken = "half past seven".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(new byte[] {0, (byte) spoken.length});
+        expected.write(spoken);
+        expected.write(new byte[] {(byte) 0xFF, (byte) 0xFF});
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(expected.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should convert packed minutes to ids into the published phrase table")
+    void shouldConvertBinaryUploadToPhraseIds() throws Exception {
+        MvcResult table = mockMvc.perform(get("/api/v1/spoken-time/phrases").param("locale", "de"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andReturn();
+        String etag = table.getResponse().getHeader("ETag");
+
+        MvcResult result = mockMvc.perform(post("/api/v1/spoken-time/upload")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .param("encoding", "ids")
+                        .param("locale", "de")
+                        .content(new byte[] {0x01, (byte) 0xC2}))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(TimeController.PHRASE_TABLE_HEADER, etag))
+                .andReturn();
+        byte[] ids = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        DataInputStream phrases = new DataInputStream(new ByteArrayInputStream(table.getResponse().getContentAsByteArray()));
+        int count = phrases.readUnsignedShort();
+        int id = (ids[0] & 0xFF) << 8 | ids[1] & 0xFF;
+        assertTrue(id < count);
+        for (int i = 0; i < id; i++) {
+            phrases.skipNBytes(phrases.readUnsignedShort());
+        }
+        assertEquals("halb acht", new String(phrases.readNBytes(phrases.readUnsignedShort()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty binary upload")
+    void shouldRejectEmptyBinaryUpload() throws Exception {
+        mockMvc.perform(post("/api/v1/spoken-time/upload")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_JSON)
+                        .content(new byte[0]))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("invalid_file")));
+    }
+
+    @Test
+    @DisplayName("Should return dictionary-encoded upload results with dictionary=true")
+    void shouldUploadCsvAsDictionary() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "times.csv", "text/csv",
+                "07:30,12:00,07:30\n12:00,00:00".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/api/v1/spoken-time/upload").file(file).param("dictionary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"dictionary\":["
+                        + "{\"original\":\"07:30\",\"spoken\":\"half past seven\"},"
+                        + "{\"original\":\"12:00\",\"spoken\":\"noon\"},"
+                        + "{\"original\":\"00:00\",\"spoken\":\"midnight\"}],"
+                        + "\"indices\":[0,1,0,1,2]}", true));
+    }
+
+    @Test
+    @DisplayName("Should convert an instant to spoken local time across a DST change")
+    void shouldConvertInstant() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time/instant").param("at", "2024-03-31T00:30:00Z").param("zone", "Europe/London"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"original\":\"00:30\",\"spoken\":\"half past twelve\"}", true));
+        mockMvc.perform(get("/api/v1/spoken-time/instant").param("at", "1711848600000").param("zone", "Europe/London"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.original", is("02:30")));
+    }
+
+    @Test
+    @DisplayName("Should serve the current time, cacheable until the minute changes")
+    void shouldServeCurrentTime() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time/now").param("zone", "UTC"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", matchesPattern("max-age=[0-6]?[0-9], public")))
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.original", matchesPattern("\\d\\d:\\d\\d")));
+        mockMvc.perform(get("/api/v1/spoken-time/now").param("zone", "Europe/Londres"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("unsupported_zone")));
+    }
+
+    @Test
+    @DisplayName("Should stream the current time as Server-Sent Events")
+    void shouldStreamCurrentTime() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/spoken-time/now/stream")
+                        .param("zone", "Europe/Berlin")
+                        .param("locale", "german")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (result.getResponse().getContentAsString().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(body.matches("event: time\ndata: \\{\"original\":\"\\d\\d:\\d\\d\",\"spoken\":\"[^\"]+\"}\n\n"),
+                body);
+        result.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    @DisplayName("Should convert a batch of epoch millis and ISO instants with per-item errors")
+    void shouldConvertInstantBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/spoken-time/instant/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1719815400000, \"2024-12-24T18:00:00Z\", \"soon\"]")
+                        .param("zone", "Europe/Berlin")
+                        .param("locale", "de"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].spoken", is("halb neun")))
+                .andExpect(jsonPath("$[1].original", is("19:00")))
+                .andExpect(jsonPath("$[2].error", is("instant must be epoch milliseconds or an ISO-8601 timestamp")));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown time zone")
+    void shouldRejectUnknownZone() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time/instant").param("at", "0").param("zone", "Europe/Londres"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("unsupported_zone")))
+                .andExpect(jsonPath("$.message", is("Unknown time zone: Europe/Londres")));
+    }
 }
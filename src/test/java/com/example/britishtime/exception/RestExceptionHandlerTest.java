@@ -1,8 +1,17 @@
 package com.example.britishtime.exception;
 
 import com.example.britishtime.controller.TimeController;
+import com.example.britishtime.service.BatchConversionEngine;
+import com.example.britishtime.service.BinaryTimeCodec;
+import com.example.britishtime.service.ConversionJobService;
+import com.example.britishtime.service.ReverseTimeService;
 import com.example.britishtime.service.TimeService;
+import com.example.britishtime.formatter.SpokenLocale;
 import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.web.AdmissionControl;
+import com.example.britishtime.web.NowBroadcaster;
+import com.example.britishtime.web.SpokenTimeResponseCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +37,30 @@ class RestExceptionHandlerTest {
     @MockBean
     private TimeFormatterFactory factory;
 
+    @MockBean
+    private ReverseTimeService reverseTimeService;
+
+    @MockBean
+    private BatchConversionEngine batchEngine;
+
+    @MockBean
+    private BinaryTimeCodec binaryCodec;
+
+    @MockBean
+    private ConversionJobService jobs;
+
+    @MockBean
+    private SpokenTimeResponseCache responseCache;
+
+    @MockBean
+    private NowBroadcaster now;
+
+    @MockBean
+    private SpokenTimeMetrics metrics;
+
+    @MockBean
+    private AdmissionControl admission;
+
     @BeforeEach
     void setup() {
         // Default: throw nothing unless specifically stubbed
@@ -35,7 +68,7 @@ class RestExceptionHandlerTest {
 
     @Test
     void shouldReturnBadRequestForInvalidTimeException() throws Exception {
-        when(timeService.toSpokenTime("25:99"))
+        when(timeService.toSpokenTime("25:99", SpokenLocale.BRITISH))
                 .thenThrow(new InvalidTimeException("hour must be between 0 and 23"));
 
         mockMvc.perform(get("/api/v1/spoken-time")
@@ -48,7 +81,7 @@ class RestExceptionHandlerTest {
 
     @Test
     void shouldReturnInternalServerErrorForUnexpectedException() throws Exception {
-        when(timeService.toSpokenTime("12:12"))
+        when(timeService.toSpokenTime("12:12", SpokenLocale.BRITISH))
                 .thenThrow(new RuntimeException("Unexpected failure"));
 
         mockMvc.perform(get("/api/v1/spoken-time")
@@ -58,4 +91,36 @@ class RestExceptionHandlerTest {
                 .andExpect(jsonPath("$.code", is("server_error")))
                 .andExpect(jsonPath("$.message", containsString("Unexpected failure")));
     }
+
+    @Test
+    void shouldServePrebuiltBodyForSharedInvalidTimeException() throws Exception {
+        when(timeService.toSpokenTime("10:99", SpokenLocale.BRITISH))
+                .thenThrow(InvalidTimeException.shared("minute must be between 0 and 59"));
+
+        mockMvc.perform(get("/api/v1/spoken-time")
+                        .param("time", "10:99")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("invalid_time")))
+                .andExpect(jsonPath("$.message", is("minute must be between 0 and 59")));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownJob() throws Exception {
+        when(jobs.status("nope")).thenThrow(new UnknownJobException("Unknown job: nope"));
+
+        mockMvc.perform(get("/api/v1/spoken-time/jobs/nope"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code", is("unknown_job")))
+                .andExpect(jsonPath("$.message", is("Unknown job: nope")));
+    }
+
+    @Test
+    void shouldReturnConflictForUnfinishedJob() throws Exception {
+        when(jobs.result("j1")).thenThrow(new JobNotFinishedException("job j1 has no result, state is RUNNING"));
+
+        mockMvc.perform(get("/api/v1/spoken-time/jobs/j1/result"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code", is("job_not_finished")));
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.britishtime.formatter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GermanTimeFormatterTest {
+
+    private final GermanTimeFormatter formatter = new GermanTimeFormatter();
+
+    @ParameterizedTest(name = "{0}:{1} -> {2}")
+    @CsvSource({
+            "1,0,ein Uhr",
+            "2,5,fünf nach zwei",
+            "3,10,zehn nach drei",
+            "4,15,Viertel nach vier",
+            "5,20,zwanzig nach fünf",
+            "6,25,fünf vor halb sieben",
+            "6,32,sechs Uhr zweiunddreißig",
+            "1,21,ein Uhr einundzwanzig",
+            "7,30,halb acht",
+            "7,35,fünf nach halb acht",
+            "8,40,zwanzig vor neun",
+            "9,45,Viertel vor zehn",
+            "10,50,zehn vor elf",
+            "11,55,fünf vor zwölf",
+            "0,0,Mitternacht",
+            "12,0,Mittag",
+            "12,30,halb eins",
+            "0,5,fünf nach zwölf",
+            "13,15,Viertel nach eins",
+            "22,1,zehn Uhr eins"
+    })
+    void shouldFormatGermanTimes(int hour, int minute, String expected) {
+        assertEquals(expected, formatter.format(hour, minute));
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidMinute() {
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(10, 70));
+    }
+}
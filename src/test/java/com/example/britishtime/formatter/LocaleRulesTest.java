@@ -0,0 +1,99 @@
+package com.example.britishtime.formatter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleRulesTest {
+
+    private static final String NUMBERS = """
+            numbers=zero, one, two, three, four, five, six, seven, eight, nine, ten, eleven, twelve, thirteen, \\
+                    fourteen, fifteen, sixteen, seventeen, eighteen, nineteen
+            tens=twenty, thirty, forty, fifty
+            compound={tens}-{ones}
+            """;
+
+    @Test
+    void shouldCompileEveryMinuteOfTheDay() {
+        String[] table = LocaleRules.load(SpokenLocale.BRITISH).compile();
+
+        assertEquals(24 * 60, table.length);
+        assertEquals("midnight", table[0]);
+        assertEquals("twenty five to one", table[35]);
+        assertEquals("eleven fifty nine", table[23 * 60 + 59]);
+    }
+
+    @Test
+    void shouldOverrideOnlyWhatAVariantDeclares() {
+        RuleBasedTimeFormatter colloquial = new RuleBasedTimeFormatter(SpokenLocale.BRITISH_COLLOQUIAL);
+
+        assertEquals("half ten", colloquial.format(22, 30));
+        assertEquals("quarter past ten", colloquial.format(22, 15));
+        assertEquals("noon", colloquial.format(12, 0));
+        assertEquals("half past ten", new BritishTimeFormatter().format(22, 30));
+    }
+
+    @Test
+    void shouldPreferExactMinutesOverRangesOverTheDefault() {
+        String[] table = LocaleRules.parse("test", NUMBERS + """
+                minute.*={hour} {minute}
+                minute.10-20/5={minute} after {hour}
+                minute.15=quarter after {hour}
+                """).compile();
+
+        assertEquals("three one", table[3 * 60 + 1]);
+        assertEquals("ten after three", table[3 * 60 + 10]);
+        assertEquals("quarter after three", table[3 * 60 + 15]);
+        assertEquals("three twenty-one", table[3 * 60 + 21]);
+    }
+
+    @Test
+    void shouldSupportTheTwentyFourHourClockAndHourForms() {
+        String[] table = LocaleRules.parse("test", NUMBERS + """
+                clock=24
+                hours.h=null, eins, zwei, drei, vier, fünf, sechs, sieben, acht, neun, zehn, elf, zwölf, dreizehn, \\
+                        vierzehn, fünfzehn, sechzehn, siebzehn, achtzehn, neunzehn, zwanzig, einundzwanzig, \\
+                        zweiundzwanzig, dreiundzwanzig
+                minute.*={hour.h} Uhr, next {next.h}
+                """).compile();
+
+        assertEquals("siebzehn Uhr, next achtzehn", table[17 * 60 + 5]);
+        assertEquals("dreiundzwanzig Uhr, next null", table[23 * 60]);
+    }
+
+    @Test
+    void shouldRejectOverlappingRanges() {
+        LocaleRules rules = LocaleRules.parse("test", NUMBERS + """
+                minute.*={hour} {minute}
+                minute.0-30/10=a
+                minute.20-40/5=b
+                """);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, rules::compile);
+        assertTrue(error.getMessage().contains("minute 20"), error.getMessage());
+    }
+
+    @Test
+    void shouldRejectMinutesWithoutAPhrase() {
+        LocaleRules rules = LocaleRules.parse("test", NUMBERS + "minute.0-58={hour} {minute}\n");
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, rules::compile);
+        assertTrue(error.getMessage().contains("minute 59"), error.getMessage());
+    }
+
+    @Test
+    void shouldRejectMistakesInTheFile() {
+        assertThrows(IllegalStateException.class,
+                () -> LocaleRules.parse("test", NUMBERS + "minute.*={hours}\n").compile());
+        assertThrows(IllegalStateException.class,
+                () -> LocaleRules.parse("test", NUMBERS + "minute.*={to}\n").compile());
+        assertThrows(IllegalStateException.class,
+                () -> LocaleRules.parse("test", NUMBERS + "minute.*={hour}\nmidnight=midnight\n").compile());
+        assertThrows(IllegalStateException.class,
+                () -> LocaleRules.parse("test", NUMBERS + "minute.*={hour}\nat.2400=midnight\n").compile());
+        assertThrows(IllegalStateException.class,
+                () -> LocaleRules.parse("test", "numbers=zero, one\nminute.*={hour}\n").compile());
+        assertThrows(IllegalStateException.class,
+                () -> LocaleRules.parse("test", "extends=klingon\n"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.britishtime.formatter;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecomputedTimeFormatterTest {
+
+    private final BritishTimeFormatter british = new BritishTimeFormatter();
+    private final PrecomputedTimeFormatter formatter = new PrecomputedTimeFormatter(british);
+
+    @Test
+    void shouldMatchDelegateForEveryMinuteOfTheDay() {
+        for (int hour = 0; hour < 24; hour++) {
+            for (int minute = 0; minute < 60; minute++) {
+                assertEquals(british.format(hour, minute), formatter.format(hour, minute));
+                assertEquals(british.format(hour, minute), formatter.formatMinuteOfDay(hour * 60 + minute));
+            }
+        }
+    }
+
+    @Test
+    void shouldReturnSameInstanceOnRepeatedCalls() {
+        assertSame(formatter.format(6, 32), formatter.format(6, 32));
+    }
+
+    @Test
+    void shouldThrowExceptionForOutOfRangeInput() {
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(10, 70));
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(24, 0));
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(-1, 0));
+    }
+
+    @Test
+    void factoryShouldReuseOneFormatterInstance() {
+        TimeFormatterFactory factory = new TimeFormatterFactory();
+        assertSame(factory.getFormatter("british"), factory.getFormatter((String) null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.britishtime.formatter;
+
+import com.example.britishtime.exception.UnsupportedLocaleException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeFormatterFactoryTest {
+
+    private final TimeFormatterFactory factory = new TimeFormatterFactory();
+
+    @Test
+    void shouldResolveLocaleAliasesCaseInsensitively() {
+        assertEquals(SpokenLocale.BRITISH, SpokenLocale.resolve(null));
+        assertEquals(SpokenLocale.BRITISH, SpokenLocale.resolve("en-gb"));
+        assertEquals(SpokenLocale.GERMAN, SpokenLocale.resolve("DE"));
+        assertThrows(UnsupportedLocaleException.class, () -> SpokenLocale.resolve("fr"));
+    }
+
+    @Test
+    void shouldServeOnePrecomputedFormatterPerLocale() {
+        assertEquals(List.of(SpokenLocale.BRITISH, SpokenLocale.GERMAN, SpokenLocale.BRITISH_COLLOQUIAL),
+                factory.getLocales());
+        assertSame(factory.getFormatter(SpokenLocale.GERMAN), factory.getFormatter("german"));
+        assertEquals("halb acht", factory.getFormatter(SpokenLocale.GERMAN).format(7, 30));
+    }
+
+    @Test
+    void shouldLetAStrategyReplaceTheRulesOfItsLocale() {
+        TimeFormatterStrategy custom = new TimeFormatterStrategy() {
+            @Override
+            public String format(int hour24, int minute) {
+                return "custom";
+            }
+
+            @Override
+            public SpokenLocale locale() {
+                return SpokenLocale.GERMAN;
+            }
+        };
+        TimeFormatterFactory withCustom =
+                new TimeFormatterFactory(TimeFormatterFactory.withDeclaredLocales(List.of(custom)), true);
+
+        assertEquals("custom", withCustom.getFormatter(SpokenLocale.GERMAN).format(7, 30));
+        assertEquals("half past seven", withCustom.getFormatter(SpokenLocale.BRITISH).format(7, 30));
+    }
+
+    @Test
+    void shouldRejectLocalesWithoutFormatter() {
+        TimeFormatterFactory britishOnly = new TimeFormatterFactory(List.of(new BritishTimeFormatter()), true);
+        assertThrows(UnsupportedLocaleException.class, () -> britishOnly.getFormatter(SpokenLocale.GERMAN));
+    }
+
+    @Test
+    void shouldRejectDuplicateFormatters() {
+        assertThrows(IllegalStateException.class,
+                () -> new TimeFormatterFactory(List.of(new BritishTimeFormatter(), new BritishTimeFormatter()), false));
+    }
+}
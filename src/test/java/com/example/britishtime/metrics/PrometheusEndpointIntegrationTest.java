@@ -0,0 +1,37 @@
+package com.example.britishtime.metrics;
+
+import com.example.britishtime.BritishSpokenTimeApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = BritishSpokenTimeApplication.class)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PrometheusEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExposeConversionMetricsInPrometheusFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time").param("time", "07:30")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/spoken-time").param("time", "25:00")).andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("spoken_time_conversions_total{locale=\"british\",}")))
+                .andExpect(content().string(containsString("spoken_time_rejections_total{reason=\"hour_out_of_range\",}")))
+                .andExpect(content().string(containsString("spoken_time_batch_chunk_seconds_bucket{le=")))
+                .andExpect(content().string(containsString("spoken_time_batch_size_items_bucket{endpoint=\"upload\",le=")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.britishtime.metrics;
+
+import com.example.britishtime.exception.InvalidTimeException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.TimeInput;
+import com.example.britishtime.service.TimeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpokenTimeMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TimeService service = new TimeService(new TimeFormatterFactory(), new SpokenTimeMetrics(registry));
+
+    @Test
+    void shouldCountConversionsPerLocaleAndRejectionsPerReason() {
+        service.toSpokenTime("07:30");
+        service.toSpokenTimes(List.of(TimeInput.of("09:45"), TimeInput.of("10:99")));
+        assertThrows(InvalidTimeException.class, () -> service.toSpokenTime("25:00"));
+
+        assertEquals(2, registry.get("spoken.time.conversions").tag("locale", "british").counter().count());
+        assertEquals(0, registry.get("spoken.time.conversions").tag("locale", "german").counter().count());
+        assertEquals(1, registry.get("spoken.time.rejections").tag("reason", "hour_out_of_range").counter().count());
+        assertEquals(1, registry.get("spoken.time.rejections").tag("reason", "minute_out_of_range").counter().count());
+    }
+
+    @Test
+    void shouldCountUnreadableInstantsUnderTheirOwnReason() {
+        service.toSpokenTimesAt(List.of("1719815400000", "soon"), "UTC", SpokenLocale.BRITISH);
+        assertThrows(InvalidTimeException.class, () -> service.toSpokenTimeAt("later", "UTC", SpokenLocale.BRITISH));
+
+        assertEquals(2, registry.get("spoken.time.rejections").tag("reason", "bad_instant").counter().count());
+        assertEquals(0, registry.get("spoken.time.rejections").tag("reason", "bad_format").counter().count());
+    }
+
+    @Test
+    void shouldRecordBatchSizesPerEndpoint() {
+        SpokenTimeMetrics metrics = new SpokenTimeMetrics(registry);
+        metrics.recordBatchSize(BatchEndpoint.UPLOAD, 10);
+        metrics.recordBatchSize(BatchEndpoint.UPLOAD, 30);
+
+        var summary = registry.get("spoken.time.batch.size").tag("endpoint", "upload").summary();
+        assertEquals(2, summary.count());
+        assertEquals(40, summary.totalAmount());
+    }
+}
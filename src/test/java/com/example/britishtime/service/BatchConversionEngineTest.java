@@ -0,0 +1,170 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.InvalidFileException;
+import com.example.britishtime.exception.InvalidTimeException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.TimeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchConversionEngineTest {
+
+    private final TimeService service = new TimeService(new TimeFormatterFactory());
+
+    // Tiny chunks force many parallel tasks even for small inputs.
+    private final BatchConversionEngine engine = new BatchConversionEngine(64, 4);
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void shouldPreserveInputOrderAcrossChunks() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int minuteOfDay = 0; minuteOfDay < TimeParser.MINUTES_PER_DAY; minuteOfDay++) {
+            String time = TimeParser.canonical(minuteOfDay);
+            csv.append(time).append(minuteOfDay % 3 == 0 ? "\r\n" : ", ");
+            expected.add(time);
+        }
+
+        List<String> actual = new ArrayList<>();
+        int cells = engine.convert(stream(csv.toString()), service::toSpokenTime,
+                (TimeResponse response) -> actual.add(response.original()));
+
+        assertEquals(TimeParser.MINUTES_PER_DAY, cells);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldHandleLinesLongerThanOneChunk() throws Exception {
+        String line = String.join(",", Collections.nCopies(50, "07:30"));
+
+        List<TimeResponse> results = new ArrayList<>();
+        engine.convert(stream(line + "\n" + line), service::toSpokenTime, results::add);
+
+        assertEquals(100, results.size());
+        assertTrue(results.stream().allMatch(r -> r.spoken().equals("half past seven")));
+    }
+
+    @Test
+    void shouldSplitASingleLineAcrossChunks() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BatchConversionEngine chunked = new BatchConversionEngine(64 * 1024, 4, new SpokenTimeMetrics(registry));
+        String line = String.join(",", Collections.nCopies(1024 * 1024 / 6, "07:30"));
+
+        try {
+            List<TimeResponse> results = new ArrayList<>();
+            int cells = chunked.convert(stream(line), service::toSpokenTime, results::add);
+
+            assertEquals(1024 * 1024 / 6, cells);
+            assertTrue(results.stream().allMatch(r -> r.spoken().equals("half past seven")));
+            assertTrue(registry.get("spoken.time.batch.chunk").timer().count() > 1);
+        } finally {
+            chunked.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSplitCarriageReturnOnlyFiles() throws Exception {
+        String csv = "07:30\r".repeat(100);
+
+        List<TimeResponse> results = new ArrayList<>();
+        engine.convert(stream(csv), service::toSpokenTime, results::add);
+
+        assertEquals(100, results.size());
+    }
+
+    @Test
+    void shouldNotSplitQuotedCells() throws Exception {
+        String csv = String.join(",", Collections.nCopies(40, "\"07:30, pm\""));
+
+        List<String> cells = new ArrayList<>();
+        engine.convert(stream(csv), cell -> cell, cells::add);
+
+        assertEquals(Collections.nCopies(40, "07:30, pm"), cells);
+    }
+
+    @Test
+    void shouldRejectCellsLongerThanTwoChunks() {
+        String csv = "07:30," + "7".repeat(200) + ",07:30";
+
+        assertThrows(InvalidFileException.class, () -> engine.convert(stream(csv), cell -> cell, cell -> { }));
+    }
+
+    @Test
+    void shouldConvertSmallInputOnCallingThread() throws Exception {
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        engine.convert(stream("07:30,09:45"), time -> {
+            threads.add(Thread.currentThread());
+            return service.toSpokenTime(time);
+        }, response -> { });
+
+        assertEquals(List.of(caller, caller), threads);
+    }
+
+    @Test
+    void shouldPropagateConversionErrors() {
+        String csv = "07:30\n".repeat(100) + "25:99\n" + "07:30\n".repeat(100);
+
+        InvalidTimeException ex = assertThrows(InvalidTimeException.class,
+                () -> engine.convert(stream(csv), service::toSpokenTime, response -> { }));
+        assertEquals("hour must be between 0 and 23", ex.getMessage());
+    }
+
+    @Test
+    void shouldHandCellsToByteConvertersWithoutDecoding() throws Exception {
+        String csv = "\"07:30\", 9:45\r\n".repeat(40);
+
+        List<TimeResponse> results = new ArrayList<>();
+        int cells = engine.convertBytes(stream(csv),
+                (bytes, offset, length) -> service.toSpokenTime(bytes, offset, length, SpokenLocale.BRITISH),
+                results::add);
+
+        assertEquals(80, cells);
+        assertEquals("half past seven", results.get(78).spoken());
+        assertEquals("quarter to ten", results.get(79).spoken());
+    }
+
+    @Test
+    void shouldHandIntResultsToTheSinkInInputOrder() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        for (int minuteOfDay = 0; minuteOfDay < TimeParser.MINUTES_PER_DAY; minuteOfDay++) {
+            csv.append(TimeParser.canonical(minuteOfDay)).append(minuteOfDay % 5 == 0 ? "\n" : ",");
+        }
+
+        List<Integer> minutes = new ArrayList<>();
+        int cells = engine.convertInts(stream(csv.toString()),
+                (bytes, offset, length) -> service.toMinuteOfDay(bytes, offset, length, SpokenLocale.BRITISH),
+                minutes::add);
+
+        assertEquals(TimeParser.MINUTES_PER_DAY, cells);
+        for (int minuteOfDay = 0; minuteOfDay < TimeParser.MINUTES_PER_DAY; minuteOfDay++) {
+            assertEquals(minuteOfDay, minutes.get(minuteOfDay));
+        }
+    }
+
+    @Test
+    void shouldReturnZeroForEmptyInput() throws Exception {
+        assertEquals(0, engine.convert(stream(""), service::toSpokenTime, response -> { }));
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
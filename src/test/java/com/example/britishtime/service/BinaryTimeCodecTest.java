@@ -0,0 +1,118 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.BinaryEncoding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryTimeCodecTest {
+
+    private TimeService service;
+    private BinaryTimeCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        service = new TimeService(new TimeFormatterFactory());
+        codec = new BinaryTimeCodec(service);
+    }
+
+    @Test
+    void shouldEncodeLengthPrefixedPhrases() throws IOException {
+        DataInputStream results = convert(minutes(450, 585, 2000), BinaryEncoding.TEXT, SpokenLocale.BRITISH);
+
+        assertEquals("half past seven", readText(results));
+        assertEquals("quarter to ten", readText(results));
+        assertEquals(BinaryTimeCodec.INVALID, results.readUnsignedShort());
+        assertEquals(0, results.available());
+    }
+
+    @Test
+    void shouldEncodeIdsIntoThePhraseTable() throws IOException {
+        List<String> table = phrases(SpokenLocale.BRITISH);
+        DataInputStream results = convert(minutes(585, 21 * 60 + 45, 720), BinaryEncoding.IDS, SpokenLocale.BRITISH);
+
+        int morning = results.readUnsignedShort();
+        assertEquals("quarter to ten", table.get(morning));
+        assertEquals(morning, results.readUnsignedShort(), "12-hour phrases share one id");
+        assertEquals("noon", table.get(results.readUnsignedShort()));
+        assertTrue(table.size() < TimeParser.MINUTES_PER_DAY);
+    }
+
+    @Test
+    void shouldCarryValuesSplitAcrossFeeds() throws IOException {
+        byte[] input = minutes(450, 585, 720);
+        BinaryTimeCodec.Encoder encoder = codec.encoder(SpokenLocale.GERMAN, BinaryEncoding.TEXT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.feed(input, 0, 1, out);
+        encoder.feed(input, 1, 2, out);
+        encoder.feed(input, 3, 3, out);
+        encoder.finish(out);
+
+        DataInputStream results = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("halb acht", readText(results));
+        assertEquals("Viertel vor zehn", readText(results));
+        assertEquals(3, encoder.values());
+    }
+
+    @Test
+    void shouldReportTrailingOddByteAsInvalid() throws IOException {
+        byte[] input = {0x01, (byte) 0xC2, 0x02};
+        DataInputStream results = convert(input, BinaryEncoding.IDS, SpokenLocale.BRITISH);
+
+        results.readUnsignedShort();
+        assertEquals(BinaryTimeCodec.INVALID, results.readUnsignedShort());
+        assertEquals(0, results.available());
+    }
+
+    @Test
+    void shouldPublishStableTablePerLocale() {
+        BinaryTimeCodec.PhraseTable british = codec.phraseTable(SpokenLocale.BRITISH);
+        BinaryTimeCodec.PhraseTable rebuilt = new BinaryTimeCodec(service).phraseTable(SpokenLocale.BRITISH);
+        assertArrayEquals(british.bytes(), rebuilt.bytes());
+        assertEquals(british.etag(), rebuilt.etag());
+        assertNotEquals(british.etag(), codec.phraseTable(SpokenLocale.GERMAN).etag());
+    }
+
+    private DataInputStream convert(byte[] input, BinaryEncoding encoding, SpokenLocale locale) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long values = codec.convert(new ByteArrayInputStream(input), out, locale, encoding);
+        assertEquals((input.length + 1) / 2, values);
+        return new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private List<String> phrases(SpokenLocale locale) throws IOException {
+        DataInputStream table = new DataInputStream(new ByteArrayInputStream(codec.phraseTable(locale).bytes()));
+        int count = table.readUnsignedShort();
+        List<String> phrases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            phrases.add(readText(table));
+        }
+        assertEquals(0, table.available());
+        return phrases;
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readUnsignedShort()), StandardCharsets.UTF_8);
+    }
+
+    static byte[] minutes(int... minutesOfDay) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int minuteOfDay : minutesOfDay) {
+            out.writeShort(minuteOfDay);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.InvalidFileException;
+import com.example.britishtime.exception.JobNotFinishedException;
+import com.example.britishtime.exception.JobQueueFullException;
+import com.example.britishtime.exception.UnknownJobException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.JobState;
+import com.example.britishtime.model.JobStatus;
+import com.example.britishtime.model.UploadErrorMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionJobServiceTest {
+
+    private final TimeService timeService = new TimeService(new TimeFormatterFactory());
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MutableClock clock = new MutableClock();
+    private ConversionJobService jobs;
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void shutdown() {
+        if (jobs != null) {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    void shouldConvertInTheBackgroundAndKeepTheResultOnDisk() throws Exception {
+        jobs = service(new MappedFileConverter(timeService, objectMapper, 4096), 1, 4);
+
+        JobStatus submitted = jobs.submit(input("07:30,12:00\n25:99\n"), SpokenLocale.BRITISH, UploadErrorMode.INLINE);
+        JobStatus done = await(submitted.id(), JobState.SUCCEEDED);
+
+        assertEquals(1.0, done.progress());
+        assertEquals(3, done.cells());
+        assertEquals(1, done.invalid());
+        assertFalse(done.aborted());
+        assertEquals("{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                + "{\"original\":\"12:00\",\"spoken\":\"noon\"}\n"
+                + "{\"original\":\"25:99\",\"error\":\"hour must be between 0 and 23\"}\n",
+                Files.readString(jobs.result(submitted.id())));
+    }
+
+    @Test
+    void shouldDeleteTheInputOnceConverted() throws Exception {
+        jobs = service(new MappedFileConverter(timeService, objectMapper, 4096), 1, 4);
+        Path input = input("07:30\n");
+
+        await(jobs.submit(input, SpokenLocale.BRITISH, UploadErrorMode.ABORT).id(), JobState.SUCCEEDED);
+
+        assertFalse(Files.exists(input));
+    }
+
+    @Test
+    void shouldRefuseUploadsOnceTheQueueIsFull() throws Exception {
+        BlockingConverter converter = new BlockingConverter();
+        jobs = service(converter, 1, 1);
+
+        JobStatus running = jobs.submit(input("07:30\n"), SpokenLocale.BRITISH, UploadErrorMode.ABORT);
+        assertTrue(converter.started.await(5, TimeUnit.SECONDS));
+        JobStatus queued = jobs.submit(input("12:00\n"), SpokenLocale.BRITISH, UploadErrorMode.ABORT);
+
+        assertEquals(JobState.RUNNING, jobs.status(running.id()).state());
+        assertEquals(JobState.QUEUED, jobs.status(queued.id()).state());
+        Path refused = input("09:45\n");
+        assertThrows(JobQueueFullException.class,
+                () -> jobs.submit(refused, SpokenLocale.BRITISH, UploadErrorMode.ABORT));
+        assertFalse(Files.exists(refused));
+        assertThrows(JobNotFinishedException.class, () -> jobs.result(queued.id()));
+
+        converter.release.countDown();
+        await(running.id(), JobState.SUCCEEDED);
+        await(queued.id(), JobState.SUCCEEDED);
+        JobStatus next = jobs.submit(input("12:00\n"), SpokenLocale.BRITISH, UploadErrorMode.ABORT);
+        await(next.id(), JobState.SUCCEEDED);
+    }
+
+    @Test
+    void shouldRejectAnEmptyUploadAndDeleteIt() throws Exception {
+        jobs = service(new MappedFileConverter(timeService, objectMapper, 4096), 1, 4);
+        Path input = jobs.createInput();
+
+        assertThrows(InvalidFileException.class, () -> jobs.submit(input, SpokenLocale.BRITISH, UploadErrorMode.ABORT));
+        assertFalse(Files.exists(input));
+    }
+
+    @Test
+    void shouldReportAFailedConversionWithoutAResult() throws Exception {
+        MappedFileConverter failing = new MappedFileConverter(timeService, objectMapper, 4096) {
+            @Override
+            public Summary convert(Path input, Path output, SpokenLocale locale, UploadErrorMode onError,
+                                   LongConsumer progress) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        jobs = service(failing, 1, 4);
+
+        JobStatus failed = await(jobs.submit(input("07:30\n"), SpokenLocale.BRITISH, UploadErrorMode.ABORT).id(),
+                JobState.FAILED);
+
+        assertEquals("disk full", failed.error());
+        assertNull(failed.cells());
+        assertThrows(JobNotFinishedException.class, () -> jobs.result(failed.id()));
+    }
+
+    @Test
+    void shouldForgetFinishedJobsAfterTheRetentionPeriod() throws Exception {
+        jobs = service(new MappedFileConverter(timeService, objectMapper, 4096), 1, 4);
+        String id = jobs.submit(input("07:30\n"), SpokenLocale.BRITISH, UploadErrorMode.ABORT).id();
+        await(id, JobState.SUCCEEDED);
+        Path result = jobs.result(id);
+
+        clock.advance(Duration.ofMinutes(59));
+        assertEquals(JobState.SUCCEEDED, jobs.status(id).state());
+        clock.advance(Duration.ofMinutes(2));
+
+        assertThrows(UnknownJobException.class, () -> jobs.status(id));
+        assertFalse(Files.exists(result));
+    }
+
+    @Test
+    void shouldRejectUnknownJobs() throws Exception {
+        jobs = service(new MappedFileConverter(timeService, objectMapper, 4096), 1, 4);
+
+        assertThrows(UnknownJobException.class, () -> jobs.status("missing"));
+        assertThrows(UnknownJobException.class, () -> jobs.result("missing"));
+    }
+
+    private ConversionJobService service(MappedFileConverter converter, int workers, int queueCapacity)
+            throws IOException {
+        return new ConversionJobService(converter, SpokenTimeMetrics.noop(), workers, queueCapacity,
+                dir.resolve("jobs"), Duration.ofHours(1), clock);
+    }
+
+    private Path input(String csv) throws IOException {
+        Path input = jobs.createInput();
+        Files.writeString(input, csv);
+        return input;
+    }
+
+    private JobStatus await(String id, JobState state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        JobStatus status = jobs.status(id);
+        while (status.state() != state && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            status = jobs.status(id);
+        }
+        assertEquals(state, status.state());
+        return status;
+    }
+
+    private final class BlockingConverter extends MappedFileConverter {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingConverter() {
+            super(timeService, objectMapper, 4096, DEFAULT_REGION_SIZE);
+        }
+
+        @Override
+        public Summary convert(Path input, Path output, SpokenLocale locale, UploadErrorMode onError,
+                               LongConsumer progress) throws IOException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return super.convert(input, output, locale, onError, progress);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.InvalidFileException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvCellTokenizerTest {
+
+    @Test
+    void shouldSkipEmptyCellsAndTrimWhitespace() {
+        String csv = " 07:30 ,09:45\r\n\n,12:00,\t,00:00";
+
+        assertEquals(List.of("07:30", "09:45", "12:00", "00:00"), tokenize(csv, csv.length()));
+    }
+
+    @Test
+    void shouldUnquoteCellsAndKeepQuotedCommas() {
+        String csv = "\"07:30\", \" 09:45 \",\"12,00\"\n\"\",23:59";
+
+        for (int piece = 1; piece <= csv.length(); piece++) {
+            assertEquals(List.of("07:30", "09:45", "12,00", "23:59"), tokenize(csv, piece), "piece size " + piece);
+        }
+    }
+
+    @Test
+    void shouldEndAnUnbalancedQuoteAtTheLineBreak() {
+        assertEquals(List.of("\"07:30,09:45", "12:00"), tokenize("\"07:30,09:45\n12:00", 64));
+    }
+
+    @Test
+    void shouldJoinCellsSplitAcrossFeeds() {
+        String csv = "07:30,09:45\n12:00, 00:00\n23:59";
+
+        for (int piece = 1; piece <= csv.length(); piece++) {
+            assertEquals(List.of("07:30", "09:45", "12:00", "00:00", "23:59"), tokenize(csv, piece),
+                    "piece size " + piece);
+        }
+    }
+
+    @Test
+    void shouldCountEmittedCells() {
+        CsvCellTokenizer tokenizer = new CsvCellTokenizer();
+        byte[] bytes = "07:30,,\n 09:4".getBytes(StandardCharsets.US_ASCII);
+
+        tokenizer.feed(bytes, 0, bytes.length, (b, offset, length) -> { });
+        assertEquals(1, tokenizer.cells());
+        tokenizer.finish((b, offset, length) -> { });
+        assertEquals(2, tokenizer.cells());
+    }
+
+    @Test
+    void shouldRejectACellLongerThanTheCapInsteadOfBufferingIt() {
+        String longest = " ".repeat(CsvCellTokenizer.MAX_CELL_BYTES - 5) + "07:30";
+        assertEquals(List.of("07:30"), tokenize(longest + ",", 7));
+
+        CsvCellTokenizer tokenizer = new CsvCellTokenizer();
+        byte[] piece = new byte[4096];
+        Arrays.fill(piece, (byte) '7');
+        assertThrows(InvalidFileException.class, () -> {
+            for (int fed = 0; fed < 1024 * 1024 * 1024; fed += piece.length) {
+                tokenizer.feed(piece, 0, piece.length, (b, offset, length) -> { });
+            }
+        });
+        assertThrows(InvalidFileException.class, () -> tokenize("07:30," + "7".repeat(300) + ",07:30", 1024));
+    }
+
+    @Test
+    void shouldHandAnOversizedCellToItsHandlerAndSkipToTheNextSeparator() {
+        String longCell = "  " + "7".repeat(CsvCellTokenizer.MAX_CELL_BYTES + 100);
+        String csv = "07:30,09:45\n" + longCell + "\n12:00," + longCell;
+        List<String> expected = List.of("07:30", "09:45", "!" + "7".repeat(CsvCellTokenizer.MAX_CELL_BYTES - 2),
+                "12:00", "!" + "7".repeat(CsvCellTokenizer.MAX_CELL_BYTES - 2));
+
+        for (int pieceSize : new int[] {1, 7, 100, 4096}) {
+            byte[] bytes = csv.getBytes(StandardCharsets.US_ASCII);
+            CsvCellTokenizer tokenizer = new CsvCellTokenizer();
+            List<String> cells = new ArrayList<>();
+            CsvCellTokenizer.CellHandler handler = new CsvCellTokenizer.CellHandler() {
+                @Override
+                public void cell(byte[] b, int offset, int length) {
+                    cells.add(new String(b, offset, length, StandardCharsets.US_ASCII));
+                }
+
+                @Override
+                public void oversizedCell(byte[] b, int offset, int length) {
+                    cells.add("!" + new String(b, offset, length, StandardCharsets.US_ASCII));
+                }
+            };
+            for (int offset = 0; offset < bytes.length; offset += pieceSize) {
+                tokenizer.feed(bytes, offset, Math.min(pieceSize, bytes.length - offset), handler);
+            }
+            tokenizer.finish(handler);
+            assertEquals(expected, cells, "piece size " + pieceSize);
+            assertEquals(5, tokenizer.cells());
+        }
+    }
+
+    private static List<String> tokenize(String csv, int pieceSize) {
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        CsvCellTokenizer tokenizer = new CsvCellTokenizer();
+        List<String> cells = new ArrayList<>();
+        CsvCellTokenizer.CellHandler handler =
+                (b, offset, length) -> cells.add(new String(b, offset, length, StandardCharsets.UTF_8));
+        for (int offset = 0; offset < bytes.length; offset += pieceSize) {
+            // Feed a copy so cells cannot rely on earlier arrays staying intact.
+            byte[] piece = new byte[Math.min(pieceSize, bytes.length - offset)];
+            System.arraycopy(bytes, offset, piece, 0, piece.length);
+            tokenizer.feed(piece, 0, piece.length, handler);
+        }
+        tokenizer.finish(handler);
+        return cells;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.UploadErrorMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileConverterTest {
+
+    private final TimeService service = new TimeService(new TimeFormatterFactory());
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldWriteOneNdjsonRecordPerCell() throws Exception {
+        Path input = write("07:30, 09:45\r\n12:00,\n");
+        Path output = dir.resolve("out.ndjson");
+
+        MappedFileConverter.Summary summary = new MappedFileConverter(service, objectMapper, 4096)
+                .convert(input, output, SpokenLocale.BRITISH, UploadErrorMode.ABORT);
+
+        assertEquals("{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                + "{\"original\":\"09:45\",\"spoken\":\"quarter to ten\"}\n"
+                + "{\"original\":\"12:00\",\"spoken\":\"noon\"}\n", Files.readString(output));
+        assertEquals(3, summary.cells());
+        assertEquals(0, summary.errors());
+        assertEquals(Files.size(input), summary.bytesRead());
+        assertEquals(Files.size(output), summary.bytesWritten());
+        assertFalse(summary.aborted());
+    }
+
+    @Test
+    void shouldJoinCellsAcrossMappedRegionsAndOutputBuffers() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int minuteOfDay = 0; minuteOfDay < TimeParser.MINUTES_PER_DAY; minuteOfDay++) {
+            csv.append(TimeParser.canonical(minuteOfDay)).append(minuteOfDay % 2 == 0 ? "," : "\n");
+            expected.append(objectMapper.writeValueAsString(service.response(minuteOfDay, SpokenLocale.GERMAN))).append('\n');
+        }
+        Path output = dir.resolve("out.ndjson");
+
+        // 7-byte regions split most cells; a 16-byte buffer is smaller than every record.
+        MappedFileConverter.Summary summary = new MappedFileConverter(service, objectMapper, 16, 7)
+                .convert(write(csv.toString()), output, SpokenLocale.GERMAN, UploadErrorMode.ABORT);
+
+        assertEquals(TimeParser.MINUTES_PER_DAY, summary.cells());
+        assertEquals(expected.toString(), Files.readString(output, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldStopAtFirstInvalidCellInAbortMode() throws Exception {
+        Path output = dir.resolve("out.ndjson");
+
+        MappedFileConverter.Summary summary = new MappedFileConverter(service, objectMapper, 4096)
+                .convert(write("07:30,25:99,09:45"), output, SpokenLocale.BRITISH, UploadErrorMode.ABORT);
+
+        assertTrue(summary.aborted());
+        assertEquals(2, summary.cells());
+        assertEquals("{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                + "{\"original\":\"25:99\",\"error\":\"hour must be between 0 and 23\"}\n", Files.readString(output));
+    }
+
+    @Test
+    void shouldReportInvalidCellsInlineAndContinue() throws Exception {
+        Path output = dir.resolve("out.ndjson");
+
+        MappedFileConverter.Summary summary = new MappedFileConverter(service, objectMapper, 4096)
+                .convert(write("bad,09:45"), output, SpokenLocale.BRITISH, UploadErrorMode.INLINE);
+
+        assertFalse(summary.aborted());
+        assertEquals(1, summary.errors());
+        assertEquals("{\"original\":\"bad\",\"error\":\"time must be in HH:mm format\"}\n"
+                + "{\"original\":\"09:45\",\"spoken\":\"quarter to ten\"}\n", Files.readString(output));
+    }
+
+    @Test
+    void shouldConvertEmptyFileToEmptyOutput() throws Exception {
+        Path output = dir.resolve("out.ndjson");
+
+        MappedFileConverter.Summary summary = new MappedFileConverter(service, objectMapper, 4096)
+                .convert(write(""), output, SpokenLocale.BRITISH, UploadErrorMode.ABORT);
+
+        assertEquals(0, summary.cells());
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    void shouldReportInputWithoutSeparatorsAsOneOversizedCellInsteadOfBufferingIt() throws Exception {
+        Path input = write("7".repeat(1024 * 1024));
+        Path output = dir.resolve("out.ndjson");
+
+        MappedFileConverter.Summary summary = new MappedFileConverter(service, objectMapper, 4096)
+                .convert(input, output, SpokenLocale.BRITISH, UploadErrorMode.INLINE);
+
+        assertEquals(1, summary.cells());
+        assertEquals(1, summary.errors());
+        assertEquals("{\"original\":\"" + "7".repeat(CsvCellTokenizer.MAX_CELL_BYTES)
+                + "\",\"error\":\"Cell longer than 256 bytes\"}\n", Files.readString(output));
+    }
+
+    @Test
+    void shouldReportAnOversizedCellInlineAndContinue() throws Exception {
+        Path output = dir.resolve("out.ndjson");
+
+        MappedFileConverter.Summary summary = new MappedFileConverter(service, objectMapper, 4096)
+                .convert(write("07:30\n" + "x".repeat(300) + "\n09:45"), output, SpokenLocale.BRITISH,
+                        UploadErrorMode.INLINE);
+
+        assertEquals(3, summary.cells());
+        assertEquals(1, summary.errors());
+        assertEquals("{\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n"
+                + "{\"original\":\"" + "x".repeat(CsvCellTokenizer.MAX_CELL_BYTES)
+                + "\",\"error\":\"Cell longer than 256 bytes\"}\n"
+                + "{\"original\":\"09:45\",\"spoken\":\"quarter to ten\"}\n", Files.readString(output));
+    }
+
+    private Path write(String csv) throws Exception {
+        return Files.writeString(dir.resolve("in.csv"), csv);
+    }
+}
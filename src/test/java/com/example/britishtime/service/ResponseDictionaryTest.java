@@ -0,0 +1,46 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.DictionaryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseDictionaryTest {
+
+    private final TimeService service = new TimeService(new TimeFormatterFactory());
+
+    @Test
+    void shouldKeepEachDistinctResponseOnceInFirstSeenOrder() {
+        ResponseDictionary dictionary = new ResponseDictionary(service, SpokenLocale.BRITISH);
+        for (String time : new String[] {"07:30", "12:00", "07:30", "7:30", "00:00", "12:00"}) {
+            byte[] bytes = time.getBytes(StandardCharsets.US_ASCII);
+            dictionary.accept(service.toMinuteOfDay(bytes, 0, bytes.length, SpokenLocale.BRITISH));
+        }
+
+        DictionaryResponse response = dictionary.toResponse();
+        assertEquals(3, response.dictionary().size());
+        assertEquals("half past seven", response.dictionary().get(0).spoken());
+        assertEquals("midnight", response.dictionary().get(2).spoken());
+        assertArrayEquals(new int[] {0, 1, 0, 0, 2, 1}, response.indices());
+        assertEquals(6, dictionary.size());
+    }
+
+    @Test
+    void shouldBoundDictionaryByMinutesOfDay() {
+        ResponseDictionary dictionary = new ResponseDictionary(service, SpokenLocale.GERMAN);
+        for (int i = 0; i < 5000; i++) {
+            dictionary.accept((i * 7) % 1440);
+        }
+
+        DictionaryResponse response = dictionary.toResponse();
+        assertEquals(TimeParser.MINUTES_PER_DAY, response.dictionary().size());
+        assertEquals(5000, response.indices().length);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(TimeParser.canonical((i * 7) % 1440), response.dictionary().get(response.indices()[i]).original());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.UnrecognisedPhraseException;
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.Meridiem;
+import com.example.britishtime.model.PhraseResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReverseTimeServiceTest {
+
+    private final TimeService timeService = new TimeService(new TimeFormatterFactory());
+    private final ReverseTimeService service = new ReverseTimeService(timeService);
+
+    @ParameterizedTest
+    @EnumSource(SpokenLocale.class)
+    void shouldInvertEveryForwardPhrase(SpokenLocale locale) {
+        for (int minuteOfDay = 0; minuteOfDay < TimeParser.MINUTES_PER_DAY; minuteOfDay++) {
+            String spoken = timeService.response(minuteOfDay, locale).spoken();
+            Meridiem meridiem = minuteOfDay < 720 ? Meridiem.AM : Meridiem.PM;
+
+            assertEquals(minuteOfDay, service.minuteOfDay(spoken, meridiem, locale), spoken);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "quarter to ten,,09:45",
+            "quarter to ten,PM,21:45",
+            "Quarter To Ten PM,,21:45",
+            "quarter to ten p.m.,AM,21:45",
+            "quarter to ten in the evening,,21:45",
+            "half past seven in the morning,PM,07:30",
+            "it's a quarter past four,,04:15",
+            "five past twelve,,00:05",
+            "five past twelve,PM,12:05",
+            "twenty-five to eight,PM,19:35",
+            "seven oclock,,07:00",
+            "  SIX   thirty two!,,06:32",
+            "midnight,PM,00:00",
+            "noon,,12:00",
+            "noon pm,,12:00"
+    })
+    void shouldResolveTranscripts(String phrase, Meridiem meridiem, String expected) {
+        assertEquals(expected, service.toTime(phrase, meridiem, SpokenLocale.BRITISH));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "halb acht,PM,19:30",
+            "Viertel vor zehn,,09:45",
+            "fünf vor halb sieben,,06:25"
+    })
+    void shouldResolveGermanPhrases(String phrase, Meridiem meridiem, String expected) {
+        assertEquals(expected, service.toTime(phrase, meridiem, SpokenLocale.GERMAN));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"''", "lunchtime", "quarter to", "quarter to thirteen", "am", "it's a", "seven thirty one two",
+            "one two three four five six seven eight nine"})
+    void shouldRejectUnrecognisedPhrases(String phrase) {
+        assertTrue(service.minuteOfDay(phrase, null, SpokenLocale.BRITISH) < 0);
+        assertThrows(UnrecognisedPhraseException.class, () -> service.toTime(phrase, null, SpokenLocale.BRITISH));
+    }
+
+    @Test
+    void shouldRejectNullPhrase() {
+        assertTrue(service.minuteOfDay(null, null, SpokenLocale.BRITISH) < 0);
+    }
+
+    @Test
+    void shouldConvertBulkInOrderWithPerItemErrors() {
+        List<PhraseResult> results = service.toTimes(Arrays.asList("half past seven", null, "lunchtime"),
+                Meridiem.PM, SpokenLocale.BRITISH);
+
+        assertEquals(PhraseResult.of("half past seven", "19:30"), results.get(0));
+        assertTrue(results.get(1).isError());
+        assertEquals(ReverseTimeService.UNRECOGNISED_MESSAGE, results.get(2).error());
+    }
+}
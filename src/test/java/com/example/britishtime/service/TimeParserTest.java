@@ -0,0 +1,117 @@
+package com.example.britishtime.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeParserTest {
+
+    @ParameterizedTest(name = "\"{0}\" -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "07:30|450",
+            "00:00|0",
+            "23:59|1439",
+            "7:5|425",
+            "' 12:00 '|720",
+            "+07:30|450",
+            "0007:30|450",
+            "''|-1",
+            "'   '|-1",
+            "badinput|-2",
+            "12:30:00|-2",
+            "1230|-2",
+            "ab:cd|-3",
+            ":30|-3",
+            "12:|-2",
+            "12:30:|750",
+            "'12:30:: '|750",
+            "::|-2",
+            "12::30|-2",
+            "12:3x|-3",
+            "25:00|-4",
+            "-1:00|-4",
+            "2147483647:00|-4",
+            "-2147483648:00|-4",
+            "000000000000000007:30|450",
+            "2147483648:00|-3",
+            "99999999999:00|-3",
+            "10:99999999999|-3",
+            "10:99|-5",
+            "10:-1|-5"
+    })
+    void shouldParseCharSequencesAndBytesAlike(String input, int expected) {
+        assertEquals(expected, TimeParser.parse(input));
+        byte[] bytes = ("," + input + ",").getBytes(StandardCharsets.US_ASCII);
+        assertEquals(expected, TimeParser.parse(bytes, 1, bytes.length - 2));
+    }
+
+    @ParameterizedTest(name = "\"{0}\" -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "\u0667:\u0663\u0660|450",
+            "\u0660\u0667:\u0663\u0660|450",
+            "\uFF11\uFF12:\uFF10\uFF10|720",
+            "\u0967\u0968:\u0969\u0966|750",
+            "\u0662\u0665:\u0660\u0660|-4",
+            "'\u00A007:30'|-3",
+            "'07:30\u2003'|-3",
+            "'\u2003'|-1",
+            "'\u2003\u3000'|-1",
+            "07\uFF1A30|-2",
+            "\u00E9|-2"
+    })
+    void shouldFallBackToTheFormerParserOutsideAscii(String input, int expected) {
+        assertEquals(expected, TimeParser.parse(input));
+        assertEquals(expected, baseline(input));
+        byte[] bytes = ("," + input + ",").getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, TimeParser.parse(bytes, 1, bytes.length - 2));
+    }
+
+    @Test
+    void shouldTrimControlCharactersButOnlyTreatWhitespaceAsBlank() {
+        for (String input : new String[] {"\u000707:30\u0000", "\u001F12:00\u001C", "\u0000", "\u0007\t", "\t\u000B\f\u001C"}) {
+            assertEquals(baseline(input), TimeParser.parse(input), () -> input.chars().boxed().toList().toString());
+            byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(baseline(input), TimeParser.parse(bytes, 0, bytes.length));
+        }
+        assertEquals(450, TimeParser.parse("\u000707:30\u0000"));
+        assertEquals(TimeParser.BAD_FORMAT, TimeParser.parse("\u0000"));
+        assertEquals(TimeParser.MISSING, TimeParser.parse("\t\u000B\f\u001C"));
+    }
+
+    @Test
+    void shouldReportMissingForNull() {
+        assertEquals(TimeParser.MISSING, TimeParser.parse(null));
+    }
+
+    @Test
+    void shouldReturnInternedCanonicalForm() {
+        assertEquals("09:05", TimeParser.canonical(545));
+        assertSame("23:59", TimeParser.canonical(1439));
+    }
+
+    @Test
+    void shouldMapErrorCodesToMessages() {
+        assertEquals("time must be in HH:mm format", TimeParser.message(TimeParser.BAD_FORMAT));
+        assertEquals("minute must be between 0 and 59", TimeParser.message(TimeParser.MINUTE_OUT_OF_RANGE));
+    }
+
+    /** The parser this class replaced: {@code trim().split(":")} plus {@code Integer.parseInt}. */
+    private static int baseline(String hhmm) {
+        if (hhmm == null || hhmm.isBlank()) {
+            return TimeParser.MISSING;
+        }
+        String[] parts = hhmm.trim().split(":");
+        if (parts.length != 2) {
+            return TimeParser.BAD_FORMAT;
+        }
+        try {
+            return TimeParser.validate(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        } catch (NumberFormatException e) {
+            return TimeParser.BAD_NUMBER;
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.britishtime.service;
 
 import com.example.britishtime.exception.InvalidTimeException;
+import com.example.britishtime.exception.UnsupportedZoneException;
+import com.example.britishtime.formatter.SpokenLocale;
 import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.TimeInput;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TimeServiceTest {
@@ -53,4 +61,73 @@ class TimeServiceTest {
         var res = service.toSpokenTime("00:00");
         assertEquals("midnight", res.spoken());
     }
+
+    @Test
+    void shouldConvertBulkInputsInOrderWithPerItemErrors() {
+        var results = service.toSpokenTimes(List.of(
+                TimeInput.of("07:30"), TimeInput.of(9, 45), TimeInput.of("badinput")));
+        assertEquals("half past seven", results.get(0).spoken());
+        assertEquals("quarter to ten", results.get(1).spoken());
+        assertEquals("time must be in HH:mm format", results.get(2).error());
+    }
+
+    @Test
+    void shouldRejectWithSharedStacklessExceptions() {
+        var first = assertThrows(InvalidTimeException.class, () -> service.toSpokenTime("25:00"));
+        var second = assertThrows(InvalidTimeException.class, () -> service.toSpokenTime(24, 0));
+        assertSame(first, second);
+        assertEquals("hour must be between 0 and 23", first.getMessage());
+        assertEquals(0, first.getStackTrace().length);
+    }
+
+    @Test
+    void shouldBuildRangeWrappingPastMidnight() {
+        TimeRange range = service.range("23:30", "00:30", 15);
+        assertEquals(5, range.count());
+        assertEquals(23 * 60 + 30, range.minuteOfDay(0));
+        assertEquals(0, range.minuteOfDay(2));
+        assertEquals(30, range.minuteOfDay(4));
+    }
+
+    @Test
+    void shouldStopRangeAtLastStepBeforeEnd() {
+        assertEquals(1440, service.range("00:00", "23:59", 1).count());
+        assertEquals(3, service.range("07:00", "07:25", 10).count());
+        assertEquals(1, service.range("07:00", "07:00", 1).count());
+    }
+
+    @Test
+    void shouldRejectInvalidRange() {
+        assertEquals(TimeService.STEP_MESSAGE,
+                assertThrows(InvalidTimeException.class, () -> service.range("07:00", "08:00", 0)).getMessage());
+        assertThrows(InvalidTimeException.class, () -> service.range("07:00", "08:00", 1441));
+        assertThrows(InvalidTimeException.class, () -> service.range("24:00", "08:00", 1));
+    }
+
+    @Test
+    void shouldConvertInstantsToLocalTimeInZone() {
+        assertEquals("half past seven", service.toSpokenTimeAt("2024-07-01T06:30:00Z", "Europe/London", SpokenLocale.BRITISH).spoken());
+        assertEquals("06:30", service.toSpokenTimeAt("1719815400000", "UTC", SpokenLocale.BRITISH).original());
+        assertEquals("halb neun", service.toSpokenTimeAt(" 2024-07-01T08:30:00+02:00 ", "Europe/Berlin", SpokenLocale.GERMAN).spoken());
+        assertEquals("noon", service.toSpokenTime(Instant.parse("2024-12-24T12:00:00Z"), ZoneId.of("Europe/London"), SpokenLocale.BRITISH).spoken());
+        assertEquals("23:59", service.toSpokenTimeAt("-1", "UTC", SpokenLocale.BRITISH).original());
+    }
+
+    @Test
+    void shouldRejectUnreadableInstantsAndUnknownZones() {
+        var first = assertThrows(InvalidTimeException.class, () -> service.toSpokenTimeAt("yesterday", "UTC", SpokenLocale.BRITISH));
+        assertSame(first, assertThrows(InvalidTimeException.class, () -> service.toSpokenTimeAt("2024-07-01T06:30", "UTC", SpokenLocale.BRITISH)));
+        assertEquals(InstantParser.MESSAGE, first.getMessage());
+        assertThrows(UnsupportedZoneException.class, () -> service.toSpokenTimeAt("0", "Mars/Olympus", SpokenLocale.BRITISH));
+    }
+
+    @Test
+    void shouldConvertInstantBatchWithPerItemErrors() {
+        var results = service.toSpokenTimesAt(List.of("1719815400000", "2024-12-24T18:00:00Z", "soon"),
+                "Europe/London", SpokenLocale.BRITISH);
+        assertEquals("half past seven", results.get(0).spoken());
+        assertEquals("six o'clock", results.get(1).spoken());
+        assertEquals("soon", results.get(2).original());
+        assertEquals(InstantParser.MESSAGE, results.get(2).error());
+    }
 }
@@ -0,0 +1,87 @@
+package com.example.britishtime.service;
+
+import com.example.britishtime.exception.UnsupportedZoneException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneOffsetCacheTest {
+
+    private final ZoneOffsetCache cache = new ZoneOffsetCache();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Europe/London", "America/New_York", "Australia/Lord_Howe", "Asia/Kathmandu", "UTC", "+05:30"})
+    void shouldAgreeWithZoneRulesForRandomInstants(String id) {
+        ZoneOffsetCache.Zone zone = cache.zone(id);
+        SplittableRandom random = new SplittableRandom(id.hashCode());
+        long from = Instant.parse("1900-01-01T00:00:00Z").toEpochMilli();
+        long to = Instant.parse("2100-01-01T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < 20_000; i++) {
+            long epochMilli = random.nextLong(from, to);
+            assertEquals(expected(epochMilli, id), zone.minuteOfDay(epochMilli), () -> Instant.ofEpochMilli(epochMilli) + " in " + id);
+        }
+    }
+
+    @Test
+    void shouldFollowDaylightSavingTransitionsInOrder() {
+        ZoneOffsetCache.Zone london = cache.zone("Europe/London");
+        // clocks go forward at 01:00 UTC on 31 March 2024 and back at 01:00 UTC on 27 October 2024
+        long start = Instant.parse("2024-03-30T00:00:00Z").toEpochMilli();
+        for (long epochMilli = start; epochMilli < start + 240L * 86_400_000; epochMilli += 59_999) {
+            assertEquals(expected(epochMilli, "Europe/London"), london.minuteOfDay(epochMilli));
+        }
+        assertEquals(59, london.minuteOfDay(Instant.parse("2024-03-31T00:59:59Z").toEpochMilli()));
+        assertEquals(120, london.minuteOfDay(Instant.parse("2024-03-31T01:00:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void shouldKeepBothSidesOfATransitionForInstantsThatAlternateAcrossIt() {
+        ZoneOffsetCache.Zone london = cache.zone("Europe/London");
+        long transition = Instant.parse("2024-03-31T01:00:00Z").toEpochMilli();
+        for (int i = 0; i < 10_000; i++) {
+            long epochMilli = i % 2 == 0 ? transition - 1 - i * 1000L : transition + i * 1000L;
+            assertEquals(expected(epochMilli, "Europe/London"), london.minuteOfDay(epochMilli));
+        }
+        // the neighbouring windows reach from the change on 26 March 2023 to the one on 27 October 2024
+        assertEquals(120, london.minuteOfDay(Instant.parse("2023-03-26T01:00:00Z").toEpochMilli()));
+        assertEquals(119, london.minuteOfDay(Instant.parse("2024-10-27T00:59:59Z").toEpochMilli()));
+        assertEquals(1, london.resolutions());
+
+        assertEquals(60, london.minuteOfDay(Instant.parse("2024-10-27T01:00:00Z").toEpochMilli()));
+        assertEquals(2, london.resolutions());
+    }
+
+    @Test
+    void shouldReuseZonesAndRejectUnknownIds() {
+        assertSame(cache.zone("Europe/London"), cache.zone("Europe/London"));
+        assertThrows(UnsupportedZoneException.class, () -> cache.zone("Europe/Londres"));
+        assertThrows(UnsupportedZoneException.class, () -> cache.zone(" "));
+        assertThrows(UnsupportedZoneException.class, () -> cache.zone(null));
+    }
+
+    @Test
+    void shouldNotCacheTheManySpellingsOfFixedOffsets() {
+        for (int seconds = 0; seconds < 10_000; seconds++) {
+            String id = String.format("+%02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+            assertEquals(seconds / 60 % TimeParser.MINUTES_PER_DAY, cache.zone(id).minuteOfDay(0));
+        }
+        for (String id : new String[]{"+01", "+0100", "UTC+1", "GMT+01:00", "UT+01:00", "Etc/GMT-1"}) {
+            assertEquals(60, cache.zone(id).minuteOfDay(0), id);
+        }
+        cache.zone("Europe/London");
+
+        assertEquals(1, cache.size());
+    }
+
+    private static int expected(long epochMilli, String id) {
+        LocalTime local = Instant.ofEpochMilli(epochMilli).atZone(ZoneId.of(id)).toLocalTime();
+        return local.getHour() * 60 + local.getMinute();
+    }
+}
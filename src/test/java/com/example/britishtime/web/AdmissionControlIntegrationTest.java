@@ -0,0 +1,69 @@
+package com.example.britishtime.web;
+
+import com.example.britishtime.BritishSpokenTimeApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = BritishSpokenTimeApplication.class, properties = {
+        "spoken-time.admission.lookup.max-concurrent=0",
+        "spoken-time.admission.lookup.min-concurrent=0",
+        "spoken-time.admission.lookup.queue-depth=0",
+        "spoken-time.admission.upload.max-concurrent=0",
+        "spoken-time.admission.upload.min-concurrent=0",
+        "spoken-time.admission.upload.queue-depth=0"
+})
+@AutoConfigureMockMvc
+class AdmissionControlIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldRefuseLookupsOverTheLimitWithRetryAfter() throws Exception {
+        mockMvc.perform(get("/api/v1/spoken-time").param("time", "07:30"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code", is("too_many_requests")));
+    }
+
+    @Test
+    void shouldClassifyThePathWithinTheApplication() throws Exception {
+        mockMvc.perform(get("/ctx/api/v1/spoken-time").contextPath("/ctx").param("time", "07:30"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void shouldIgnoreMatrixParametersWhenClassifying() throws Exception {
+        mockMvc.perform(multipart("/api/v1/spoken-time/upload;x=1")
+                        .file(new MockMultipartFile("file", "times.csv", "text/csv", "07:30".getBytes())))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message", containsString("upload")));
+    }
+
+    @Test
+    void shouldKeepOtherClassesAvailable() throws Exception {
+        mockMvc.perform(post("/api/v1/spoken-time/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"07:30\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].spoken", is("half past seven")));
+    }
+
+    @Test
+    void shouldLeaveOtherPathsAlone() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
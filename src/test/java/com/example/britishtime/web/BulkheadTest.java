@@ -0,0 +1,147 @@
+package com.example.britishtime.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void shouldGrantUpToTheLimitThenQueueThenRefuse() {
+        Bulkhead bulkhead = bulkhead(2, 2, 1, Duration.ofSeconds(10), Duration.ZERO);
+
+        assertTrue(bulkhead.acquire().join());
+        assertTrue(bulkhead.acquire().join());
+        CompletableFuture<Boolean> waiter = bulkhead.acquire();
+
+        assertFalse(waiter.isDone());
+        assertNull(bulkhead.acquire());
+        assertEquals(2, bulkhead.inFlight());
+        assertEquals(1, bulkhead.queued());
+    }
+
+    @Test
+    void shouldHandAReleasedPermitToTheOldestWaiter() {
+        Bulkhead bulkhead = bulkhead(1, 1, 2, Duration.ofSeconds(10), Duration.ZERO);
+        bulkhead.acquire();
+        CompletableFuture<Boolean> first = bulkhead.acquire();
+        CompletableFuture<Boolean> second = bulkhead.acquire();
+
+        bulkhead.release(0);
+
+        assertTrue(first.join());
+        assertFalse(second.isDone());
+        assertEquals(1, bulkhead.inFlight());
+        bulkhead.release(0);
+        assertTrue(second.join());
+        bulkhead.release(0);
+        assertEquals(0, bulkhead.inFlight());
+    }
+
+    @Test
+    void shouldSkipWaitersThatGaveUp() {
+        Bulkhead bulkhead = bulkhead(1, 1, 2, Duration.ofSeconds(10), Duration.ZERO);
+        bulkhead.acquire();
+        CompletableFuture<Boolean> gaveUp = bulkhead.acquire();
+        CompletableFuture<Boolean> waiting = bulkhead.acquire();
+
+        assertTrue(gaveUp.complete(false));
+        bulkhead.release(0);
+
+        assertTrue(waiting.join());
+        assertEquals(1, bulkhead.inFlight());
+        assertEquals(0, bulkhead.queued());
+    }
+
+    @Test
+    void shouldGiveUpAfterTheQueueTimeout() {
+        Bulkhead bulkhead = bulkhead(1, 1, 1, Duration.ofMillis(20), Duration.ZERO);
+        bulkhead.acquire();
+
+        assertFalse(bulkhead.acquireBlocking());
+        assertEquals(0, bulkhead.queued());
+        bulkhead.release(0);
+        assertEquals(0, bulkhead.inFlight());
+    }
+
+    @Test
+    void shouldBackOffOncePerTargetPeriodWhenTooSlow() {
+        Bulkhead bulkhead = bulkhead(100, 10, 0, Duration.ZERO, Duration.ofMillis(10));
+        bulkhead.acquire();
+        bulkhead.acquire();
+
+        bulkhead.release(50 * MS);
+        bulkhead.release(50 * MS);
+        assertEquals(90, bulkhead.limit());
+
+        now.addAndGet(10 * MS);
+        bulkhead.acquire();
+        bulkhead.release(50 * MS);
+        assertEquals(81, bulkhead.limit());
+    }
+
+    @Test
+    void shouldNotBackOffBelowTheMinimumOrOne() {
+        Bulkhead bulkhead = bulkhead(4, 0, 0, Duration.ZERO, Duration.ofMillis(10));
+        for (int i = 0; i < 50; i++) {
+            now.addAndGet(10 * MS);
+            bulkhead.acquire();
+            bulkhead.release(50 * MS);
+        }
+
+        assertEquals(1, bulkhead.limit());
+        assertTrue(bulkhead.acquire().join());
+    }
+
+    @Test
+    void shouldGrowAFullLimitWhileWithinTarget() {
+        Bulkhead bulkhead = bulkhead(4, 1, 0, Duration.ZERO, Duration.ofMillis(10));
+        for (int i = 0; i < 4; i++) {
+            now.addAndGet(10 * MS);
+            bulkhead.acquire();
+            bulkhead.release(50 * MS);
+        }
+        int backedOff = bulkhead.limit();
+        assertTrue(backedOff < 4);
+
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < bulkhead.limit(); j++) {
+                bulkhead.acquire();
+            }
+            for (int j = bulkhead.inFlight(); j > 0; j--) {
+                bulkhead.release(MS);
+            }
+        }
+
+        assertEquals(4, bulkhead.limit());
+    }
+
+    @Test
+    void shouldKeepAFixedLimitWithoutATarget() {
+        Bulkhead bulkhead = bulkhead(3, 1, 0, Duration.ZERO, Duration.ZERO);
+        bulkhead.acquire();
+        bulkhead.release(TimeUnit.SECONDS.toNanos(60));
+
+        assertEquals(3, bulkhead.limit());
+    }
+
+    @Test
+    void shouldRejectInconsistentSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Bulkhead.Settings(1, 2, 0, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1)));
+    }
+
+    private Bulkhead bulkhead(int max, int min, int queueDepth, Duration queueTimeout, Duration latencyTarget) {
+        return new Bulkhead(new Bulkhead.Settings(max, min, queueDepth, queueTimeout, latencyTarget,
+                Duration.ofSeconds(1)), now::get);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.britishtime.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatestFrameWriterTest {
+
+    private final List<String> written = new ArrayList<>();
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Test
+    void shouldEndOnTheNewestFrameWhateverOrderTheWritesAreScheduledIn() {
+        LatestFrameWriter writer = new LatestFrameWriter(frame -> written.add(decode(frame)), tasks::add);
+
+        writer.accept(frame("07:30"));
+        writer.accept(frame("07:31"));
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            tasks.get(i).run();
+        }
+
+        assertEquals(1, tasks.size());
+        assertEquals("07:31", written.get(written.size() - 1));
+        assertFalse(written.contains("07:30"));
+    }
+
+    @Test
+    void shouldWriteAFrameThatArrivesDuringAWriteAfterIt() {
+        LatestFrameWriter[] writer = new LatestFrameWriter[1];
+        writer[0] = new LatestFrameWriter(frame -> {
+            written.add(decode(frame));
+            if (written.size() == 1) {
+                writer[0].accept(frame("07:31"));
+            }
+        }, tasks::add);
+
+        writer[0].accept(frame("07:30"));
+        tasks.remove(0).run();
+
+        assertEquals(List.of("07:30", "07:31"), written);
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void shouldStartANewWriteOnceIdle() {
+        LatestFrameWriter writer = new LatestFrameWriter(frame -> written.add(decode(frame)), tasks::add);
+
+        writer.accept(frame("07:30"));
+        tasks.remove(0).run();
+        writer.accept(frame("07:31"));
+        tasks.remove(0).run();
+
+        assertEquals(List.of("07:30", "07:31"), written);
+    }
+
+    private static byte[] frame(String time) {
+        return time.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String decode(byte[] frame) {
+        return new String(frame, StandardCharsets.UTF_8);
+    }
+}
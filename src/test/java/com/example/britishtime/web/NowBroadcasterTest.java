@@ -0,0 +1,197 @@
+package com.example.britishtime.web;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.metrics.SpokenTimeMetrics;
+import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.service.TimeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NowBroadcasterTest {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+    private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T07:30:20Z"));
+    private final AtomicInteger conversions = new AtomicInteger();
+    private NowBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TimeService timeService = new TimeService(new TimeFormatterFactory()) {
+            @Override
+            public TimeResponse toSpokenTime(long epochMilli, ZoneId zone, SpokenLocale locale) {
+                conversions.incrementAndGet();
+                return super.toSpokenTime(epochMilli, zone, locale);
+            }
+        };
+        ObjectMapper objectMapper = new ObjectMapper();
+        broadcaster = new NowBroadcaster(timeService, new SpokenTimeResponseCache(timeService, objectMapper),
+                objectMapper, SpokenTimeMetrics.noop(), Duration.ofMinutes(30), clock, false);
+    }
+
+    @Test
+    void shouldSendTheCurrentTimeOnSubscribe() {
+        List<byte[]> frames = new ArrayList<>();
+
+        broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, frames::add);
+
+        assertEquals(List.of("event: time\ndata: {\"original\":\"07:30\",\"spoken\":\"half past seven\"}\n\n"),
+                decode(frames));
+    }
+
+    @Test
+    void shouldConvertOncePerMinuteAndShareTheFrame() {
+        List<byte[]> first = new ArrayList<>();
+        List<byte[]> second = new ArrayList<>();
+        broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, first::add);
+        broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, second::add);
+        assertEquals(1, conversions.get());
+
+        clock.advance(Duration.ofSeconds(40));
+        broadcaster.tick();
+
+        assertEquals(2, conversions.get());
+        assertEquals(2, first.size());
+        assertSame(first.get(1), second.get(1));
+        assertTrue(decode(first).get(1).contains("\"original\":\"07:31\""));
+    }
+
+    @Test
+    void shouldNotPublishTwiceWithinAMinute() {
+        List<byte[]> frames = new ArrayList<>();
+        broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, frames::add);
+        clock.advance(Duration.ofSeconds(40));
+        broadcaster.tick();
+
+        clock.advance(Duration.ofSeconds(30));
+        broadcaster.tick();
+
+        assertEquals(2, frames.size());
+    }
+
+    @Test
+    void shouldKeepZonesAndLocalesApart() {
+        List<byte[]> london = new ArrayList<>();
+        List<byte[]> kolkata = new ArrayList<>();
+        List<byte[]> german = new ArrayList<>();
+
+        broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, london::add);
+        broadcaster.subscribe(KOLKATA, SpokenLocale.BRITISH, kolkata::add);
+        broadcaster.subscribe(LONDON, SpokenLocale.GERMAN, german::add);
+
+        assertTrue(decode(london).get(0).contains("\"original\":\"07:30\""));
+        assertTrue(decode(kolkata).get(0).contains("\"original\":\"13:00\""));
+        assertTrue(decode(german).get(0).contains("\"original\":\"07:30\""));
+        assertNotEquals(decode(london), decode(german));
+    }
+
+    @Test
+    void shouldStopSendingOnceClosed() {
+        List<byte[]> frames = new ArrayList<>();
+        NowBroadcaster.Subscription subscription = broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, frames::add);
+        assertEquals(1, broadcaster.subscribers());
+
+        subscription.close();
+        subscription.close();
+        clock.advance(Duration.ofMinutes(1));
+        broadcaster.tick();
+
+        assertEquals(1, frames.size());
+        assertEquals(0, broadcaster.subscribers());
+        broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, frames::add);
+        assertEquals(2, frames.size());
+    }
+
+    @Test
+    void shouldLetAListenerCloseWhileTheFrameIsHandedOut() {
+        List<byte[]> frames = new ArrayList<>();
+        NowBroadcaster.Subscription[] self = new NowBroadcaster.Subscription[1];
+        self[0] = broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, frame -> {
+            if (self[0] != null) {
+                self[0].close();
+            }
+        });
+        broadcaster.subscribe(LONDON, SpokenLocale.BRITISH, frames::add);
+
+        clock.advance(Duration.ofMinutes(1));
+        broadcaster.tick();
+
+        assertEquals(2, frames.size());
+        assertEquals(1, broadcaster.subscribers());
+    }
+
+    @Test
+    void shouldCountSecondsUntilTheNextMinute() {
+        NowBroadcaster.Reading reading = broadcaster.read(LONDON, SpokenLocale.BRITISH);
+
+        assertEquals(40, reading.secondsUntilNextMinute());
+        assertEquals("07:30", reading.response().original());
+        assertEquals("07:30", broadcaster.now(LONDON, SpokenLocale.BRITISH).original());
+    }
+
+    @Test
+    void shouldTakeTheTimeAndItsAgeFromOneClockRead() {
+        clock.advance(Duration.ofSeconds(39));
+        clock.stepOnRead(Duration.ofSeconds(2));
+
+        NowBroadcaster.Reading reading = broadcaster.read(LONDON, SpokenLocale.BRITISH);
+
+        assertEquals("07:30", reading.response().original());
+        assertEquals(1, reading.secondsUntilNextMinute());
+    }
+
+    private static List<String> decode(List<byte[]> frames) {
+        return frames.stream().map(frame -> new String(frame, StandardCharsets.UTF_8)).toList();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+        private volatile Duration step = Duration.ZERO;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        /** Moves the clock on by {@code step} after every read, as time passes between two calls. */
+        void stepOnRead(Duration step) {
+            this.step = step;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            Instant read = now;
+            now = read.plus(step);
+            return read;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.britishtime.web;
+
+import com.example.britishtime.BritishSpokenTimeApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BritishSpokenTimeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spoken-time.admission.lookup.max-concurrent=0",
+                "spoken-time.admission.lookup.min-concurrent=0",
+                "spoken-time.admission.lookup.queue-depth=0",
+                "spoken-time.admission.upload.max-concurrent=0",
+                "spoken-time.admission.upload.min-concurrent=0",
+                "spoken-time.admission.upload.queue-depth=0"
+        })
+@ActiveProfiles("reactive")
+class ReactiveAdmissionControlTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void shouldRefuseLookupsOverTheLimitWithRetryAfter() {
+        client.get().uri("/api/v1/spoken-time?time=07:30")
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals("Retry-After", "1")
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("too_many_requests");
+    }
+
+    @Test
+    void shouldIgnoreMatrixParametersWhenClassifying() {
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("file", new ByteArrayResource("07:30".getBytes()) {
+            @Override
+            public String getFilename() {
+                return "times.csv";
+            }
+        });
+
+        client.post().uri("/api/v1/spoken-time/upload;x=1")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .bodyValue(body.build())
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectBody()
+                .jsonPath("$.message").value(message -> assertTrue(((String) message).contains("upload")));
+    }
+
+    @Test
+    void shouldKeepOtherClassesAvailable() {
+        client.post().uri("/api/v1/spoken-time/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[\"07:30\"]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].spoken").isEqualTo("half past seven");
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.britishtime.web;
+
+import com.example.britishtime.formatter.SpokenLocale;
+import com.example.britishtime.formatter.TimeFormatterFactory;
+import com.example.britishtime.model.TimeResponse;
+import com.example.britishtime.service.TimeRange;
+import com.example.britishtime.service.TimeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpokenTimeResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TimeService service;
+    private SpokenTimeResponseCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new TimeService(new TimeFormatterFactory());
+        cache = new SpokenTimeResponseCache(service, objectMapper);
+    }
+
+    @Test
+    void shouldHoldJacksonEncodingOfServiceResponses() throws Exception {
+        TimeResponse response = service.toSpokenTime("07:30");
+        SpokenTimeResponseCache.Entry entry = cache.lookup(response);
+
+        assertNotNull(entry);
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), entry.json());
+        assertSame(entry, cache.lookup(service.toSpokenTime(7, 30)));
+    }
+
+    @Test
+    void shouldGiveDistinctEtagsPerTime() {
+        assertNotEquals(cache.lookup(service.toSpokenTime("07:30")).etag(),
+                cache.lookup(service.toSpokenTime("07:31")).etag());
+    }
+
+    @Test
+    void shouldIgnoreResponsesItDidNotCreate() {
+        assertNull(cache.lookup(new TimeResponse("07:30", "half past seven")));
+        assertNull(cache.lookup(new TimeResponse("bad", "x")));
+        assertNull(cache.lookup(null));
+    }
+
+    @Test
+    void shouldResolveOncePerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            TimeResponse response = service.toSpokenTime("07:30");
+            SpokenTimeResponseCache.Entry entry = cache.resolve(response);
+
+            assertSame(response, entry.response());
+            assertTrue(Collections.list(request.getAttributeNames()).stream()
+                    .anyMatch(name -> request.getAttribute(name) == entry));
+            assertSame(entry, cache.resolve(response));
+            assertSame(cache.lookup(service.toSpokenTime("07:31")), cache.resolve(service.toSpokenTime("07:31")));
+            assertNull(cache.resolve(new TimeResponse("07:30", "half past seven")));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void shouldResolveWithoutARequest() {
+        TimeResponse response = service.toSpokenTime("07:30");
+
+        assertSame(cache.lookup(response), cache.resolve(response));
+    }
+
+    @Test
+    void shouldWriteRangeInPiecesAsOneJsonArray() throws Exception {
+        TimeRange range = service.range("11:59", "12:01", 1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.writeRange(range, SpokenLocale.BRITISH, 0, 2, false, out);
+        cache.writeRange(range, SpokenLocale.BRITISH, 2, 3, false, out);
+
+        TimeResponse[] responses = objectMapper.readValue(out.toByteArray(), TimeResponse[].class);
+        assertEquals(3, responses.length);
+        assertEquals("noon", responses[1].spoken());
+        assertEquals("12:01", responses[2].original());
+    }
+
+    @Test
+    void shouldWriteRangeAsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TimeRange range = service.range("23:59", "00:00", 1);
+        cache.writeRange(range, SpokenLocale.BRITISH, 0, range.count(), true, out);
+
+        assertEquals("{\"original\":\"23:59\",\"spoken\":\"eleven fifty nine\"}\n"
+                + "{\"original\":\"00:00\",\"spoken\":\"midnight\"}\n", out.toString(StandardCharsets.UTF_8));
+    }
+}